@@ -52,6 +52,7 @@ import forestry.core.gui.GuiHandler;
 import forestry.core.multiblock.MultiblockEventHandler;
 import forestry.core.network.PacketHandler;
 import forestry.core.proxy.Proxies;
+import forestry.core.recipes.CraftingRecipeIndex;
 import forestry.core.utils.MigrationHelper;
 import forestry.core.worldgen.WorldGenerator;
 import forestry.modules.ForestryModules;
@@ -178,6 +179,8 @@ public class Forestry {
 
 	@EventHandler
 	public void serverStarting(FMLServerStartingEvent event) {
+		// recipes may have been replaced since the last server, without changing their number
+		CraftingRecipeIndex.invalidate();
 		ModuleManager.serverStarting(event.getServer());
 	}
 
@@ -7,6 +7,12 @@ package forestry.api.apiculture;
 
 import javax.annotation.Nullable;
 
+/**
+ * Modifies the bees of a housing, see {@link IBeeHousing#getBeeModifiers()}.
+ * <p>
+ * Forestry housings combine their modifiers and reuse the combined result for up to one second (20 ticks).
+ * A modifier whose values change, for example with the power or inventory of its block, is read again within that time.
+ */
 public interface IBeeModifier {
 	/**
 	 * @param genome          Genome of the bee this modifier is called for.
@@ -30,6 +30,7 @@ public interface IAlvearyComponent<T extends IMultiblockLogicAlveary> extends IM
 
 	/**
 	 * Implemented by alveary parts to apply a beeModifier to the completed structure.
+	 * The alveary reads the values of the modifier again at least every second, see {@link IBeeModifier}.
 	 */
 	interface BeeModifier extends IAlvearyComponent {
 		IBeeModifier getBeeModifier();
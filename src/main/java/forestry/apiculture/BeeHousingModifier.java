@@ -11,109 +11,218 @@
 package forestry.apiculture;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
 
 import forestry.api.apiculture.IBeeGenome;
 import forestry.api.apiculture.IBeeHousing;
 import forestry.api.apiculture.IBeeModifier;
 
+/**
+ * Combines all bee modifiers of a bee housing.
+ * <p>
+ * A cached modifier keeps a snapshot of the modifiers of its housing, with the boolean modifiers and the last result of
+ * every float modifier already combined. The housing has to call {@link #invalidate()} whenever its set of modifiers
+ * changes, see {@link ICachingBeeHousing}. Modifiers can also change their values without leaving the set, like powered
+ * alveary parts of other mods, so the snapshot is rebuilt every {@link #REFRESH_INTERVAL} ticks as well.
+ * A modifier that is not cached reads the modifiers of the housing on every call.
+ */
 public class BeeHousingModifier implements IBeeModifier {
+	public static final int REFRESH_INTERVAL = 20;
+
 	private final IBeeHousing beeHousing;
+	private final boolean cached;
+	@Nullable
+	private Snapshot snapshot;
 
 	public BeeHousingModifier(IBeeHousing beeHousing) {
+		this(beeHousing, false);
+	}
+
+	public BeeHousingModifier(IBeeHousing beeHousing, boolean cached) {
 		this.beeHousing = beeHousing;
+		this.cached = cached;
+	}
+
+	/**
+	 * Drops the snapshot of the modifiers, it is rebuilt on the next call.
+	 */
+	public void invalidate() {
+		snapshot = null;
+	}
+
+	private Snapshot getSnapshot() {
+		Snapshot snapshot = this.snapshot;
+		long worldTime = beeHousing.getWorldObj().getTotalWorldTime();
+		if (snapshot == null || worldTime - snapshot.time >= REFRESH_INTERVAL || worldTime < snapshot.time) {
+			snapshot = new Snapshot(beeHousing.getBeeModifiers(), worldTime);
+			if (cached) {
+				this.snapshot = snapshot;
+			}
+		}
+		return snapshot;
 	}
 
 	@Override
 	public float getTerritoryModifier(IBeeGenome genome, final float currentModifier) {
+		Snapshot snapshot = getSnapshot();
+		CachedValue cachedValue = snapshot.territory;
+		if (cachedValue.matches(genome, null, currentModifier)) {
+			return cachedValue.value;
+		}
 		float modifierValue = 1.0f;
-		for (IBeeModifier modifier : beeHousing.getBeeModifiers()) {
+		for (IBeeModifier modifier : snapshot.modifiers) {
 			modifierValue *= modifier.getTerritoryModifier(genome, modifierValue * currentModifier);
 		}
-		return modifierValue;
+		return cachedValue.set(genome, null, currentModifier, modifierValue);
 	}
 
 	@Override
 	public float getMutationModifier(IBeeGenome genome, IBeeGenome mate, final float currentModifier) {
+		Snapshot snapshot = getSnapshot();
+		CachedValue cachedValue = snapshot.mutation;
+		if (cachedValue.matches(genome, mate, currentModifier)) {
+			return cachedValue.value;
+		}
 		float modifierValue = 1.0f;
-		for (IBeeModifier modifier : beeHousing.getBeeModifiers()) {
+		for (IBeeModifier modifier : snapshot.modifiers) {
 			modifierValue *= modifier.getMutationModifier(genome, mate, modifierValue * currentModifier);
 		}
-		return modifierValue;
+		return cachedValue.set(genome, mate, currentModifier, modifierValue);
 	}
 
 	@Override
 	public float getLifespanModifier(IBeeGenome genome, @Nullable IBeeGenome mate, final float currentModifier) {
+		Snapshot snapshot = getSnapshot();
+		CachedValue cachedValue = snapshot.lifespan;
+		if (cachedValue.matches(genome, mate, currentModifier)) {
+			return cachedValue.value;
+		}
 		float modifierValue = 1.0f;
-		for (IBeeModifier modifier : beeHousing.getBeeModifiers()) {
+		for (IBeeModifier modifier : snapshot.modifiers) {
 			modifierValue *= modifier.getLifespanModifier(genome, mate, modifierValue * currentModifier);
 		}
-		return modifierValue;
+		return cachedValue.set(genome, mate, currentModifier, modifierValue);
 	}
 
 	@Override
 	public float getProductionModifier(IBeeGenome genome, final float currentModifier) {
+		Snapshot snapshot = getSnapshot();
+		CachedValue cachedValue = snapshot.production;
+		if (cachedValue.matches(genome, null, currentModifier)) {
+			return cachedValue.value;
+		}
 		float modifierValue = 1.0f;
-		for (IBeeModifier modifier : beeHousing.getBeeModifiers()) {
+		for (IBeeModifier modifier : snapshot.modifiers) {
 			modifierValue *= modifier.getProductionModifier(genome, modifierValue * currentModifier);
 		}
-		return modifierValue;
+		return cachedValue.set(genome, null, currentModifier, modifierValue);
 	}
 
 	@Override
 	public float getFloweringModifier(IBeeGenome genome, final float currentModifier) {
+		Snapshot snapshot = getSnapshot();
+		CachedValue cachedValue = snapshot.flowering;
+		if (cachedValue.matches(genome, null, currentModifier)) {
+			return cachedValue.value;
+		}
 		float modifierValue = 1.0f;
-		for (IBeeModifier modifier : beeHousing.getBeeModifiers()) {
+		for (IBeeModifier modifier : snapshot.modifiers) {
 			modifierValue *= modifier.getFloweringModifier(genome, modifierValue * currentModifier);
 		}
-		return modifierValue;
+		return cachedValue.set(genome, null, currentModifier, modifierValue);
 	}
 
 	@Override
 	public float getGeneticDecay(IBeeGenome genome, final float currentModifier) {
+		Snapshot snapshot = getSnapshot();
+		CachedValue cachedValue = snapshot.geneticDecay;
+		if (cachedValue.matches(genome, null, currentModifier)) {
+			return cachedValue.value;
+		}
 		float modifierValue = 1.0f;
-		for (IBeeModifier modifier : beeHousing.getBeeModifiers()) {
+		for (IBeeModifier modifier : snapshot.modifiers) {
 			modifierValue *= modifier.getGeneticDecay(genome, modifierValue * currentModifier);
 		}
-		return modifierValue;
+		return cachedValue.set(genome, null, currentModifier, modifierValue);
 	}
 
 	@Override
 	public boolean isSealed() {
-		for (IBeeModifier modifier : beeHousing.getBeeModifiers()) {
-			if (modifier.isSealed()) {
-				return true;
-			}
-		}
-		return false;
+		return getSnapshot().sealed;
 	}
 
 	@Override
 	public boolean isSelfLighted() {
-		for (IBeeModifier modifier : beeHousing.getBeeModifiers()) {
-			if (modifier.isSelfLighted()) {
-				return true;
-			}
-		}
-		return false;
+		return getSnapshot().selfLighted;
 	}
 
 	@Override
 	public boolean isSunlightSimulated() {
-		for (IBeeModifier modifier : beeHousing.getBeeModifiers()) {
-			if (modifier.isSunlightSimulated()) {
-				return true;
-			}
-		}
-		return false;
+		return getSnapshot().sunlightSimulated;
 	}
 
 	@Override
 	public boolean isHellish() {
-		for (IBeeModifier modifier : beeHousing.getBeeModifiers()) {
-			if (modifier.isHellish()) {
-				return true;
+		return getSnapshot().hellish;
+	}
+
+	private static class Snapshot {
+		private final long time;
+		private final List<IBeeModifier> modifiers = new ArrayList<>();
+		private final boolean sealed;
+		private final boolean selfLighted;
+		private final boolean sunlightSimulated;
+		private final boolean hellish;
+
+		private final CachedValue territory = new CachedValue();
+		private final CachedValue mutation = new CachedValue();
+		private final CachedValue lifespan = new CachedValue();
+		private final CachedValue production = new CachedValue();
+		private final CachedValue flowering = new CachedValue();
+		private final CachedValue geneticDecay = new CachedValue();
+
+		public Snapshot(Iterable<IBeeModifier> beeModifiers, long time) {
+			this.time = time;
+			boolean sealed = false;
+			boolean selfLighted = false;
+			boolean sunlightSimulated = false;
+			boolean hellish = false;
+			for (IBeeModifier modifier : beeModifiers) {
+				modifiers.add(modifier);
+				sealed |= modifier.isSealed();
+				selfLighted |= modifier.isSelfLighted();
+				sunlightSimulated |= modifier.isSunlightSimulated();
+				hellish |= modifier.isHellish();
 			}
+			this.sealed = sealed;
+			this.selfLighted = selfLighted;
+			this.sunlightSimulated = sunlightSimulated;
+			this.hellish = hellish;
+		}
+	}
+
+	/**
+	 * The last combined value of a float modifier and the arguments it was combined for.
+	 */
+	private static class CachedValue {
+		@Nullable
+		private IBeeGenome genome;
+		@Nullable
+		private IBeeGenome mate;
+		private float currentModifier;
+		private float value;
+
+		public boolean matches(IBeeGenome genome, @Nullable IBeeGenome mate, float currentModifier) {
+			return this.genome == genome && this.mate == mate && this.currentModifier == currentModifier;
+		}
+
+		public float set(IBeeGenome genome, @Nullable IBeeGenome mate, float currentModifier, float value) {
+			this.genome = genome;
+			this.mate = mate;
+			this.currentModifier = currentModifier;
+			this.value = value;
+			return value;
 		}
-		return false;
 	}
 }
@@ -31,11 +31,14 @@ import forestry.api.core.IBlockPosPredicate;
 import forestry.api.core.INbtReadable;
 import forestry.api.core.INbtWritable;
 import forestry.api.genetics.IFlowerProvider;
+import forestry.apiculture.flowers.FlowerIndex;
+import forestry.apiculture.flowers.FlowerRegistry;
 import forestry.core.utils.TickHelper;
 
 public class HasFlowersCache implements INbtWritable, INbtReadable {
 	private static final String NBT_KEY = "hasFlowerCache";
 	private static final String NBT_KEY_FLOWERS = "flowers";
+	private static final int INDEX_CHECK_INTERVAL = 20;
 	private int flowerCheckInterval;
 
 	private final TickHelper tickHelper = new TickHelper();
@@ -60,6 +63,11 @@ public class HasFlowersCache implements INbtWritable, INbtReadable {
 		public final Vec3i territory;
 		public final IBlockPosPredicate flowerPredicate;
 		public Iterator<BlockPos.MutableBlockPos> areaIterator;
+		public int indexModCount = -1;
+		@Nullable
+		public BlockPos indexMin;
+		@Nullable
+		public BlockPos indexMax;
 
 		public FlowerData(IBee queen, IBeeHousing beeHousing) {
 			IFlowerProvider flowerProvider = queen.getGenome().getFlowerProvider();
@@ -83,6 +91,12 @@ public class HasFlowersCache implements INbtWritable, INbtReadable {
 		World world = beeHousing.getWorldObj();
 		tickHelper.onTick();
 
+		FlowerIndex flowerIndex = FlowerIndex.get(world);
+		if (flowerIndex != null) {
+			updateFromIndex(flowerIndex, queen, beeHousing);
+			return;
+		}
+
 		if (!flowerCoords.isEmpty() && tickHelper.updateOnInterval(flowerCheckInterval)) {
 			Iterator<BlockPos> iterator = flowerCoords.iterator();
 			while (iterator.hasNext()) {
@@ -110,6 +124,42 @@ public class HasFlowersCache implements INbtWritable, INbtReadable {
 		}
 	}
 
+	/**
+	 * Takes the flowers from the shared index of the world instead of scanning the territory.
+	 * The index is queried again when it changed for this flower type in the chunks of the territory, or every
+	 * {@link #flowerCheckInterval} ticks, because the territory can change with the housing modifiers.
+	 */
+	private void updateFromIndex(FlowerIndex flowerIndex, IBee queen, IBeeHousing beeHousing) {
+		if (flowerData == null || !tickHelper.updateOnInterval(INDEX_CHECK_INTERVAL)) {
+			return;
+		}
+
+		BlockPos indexMin = flowerData.indexMin;
+		BlockPos indexMax = flowerData.indexMax;
+		if (indexMin == null || indexMax == null
+			|| flowerData.indexModCount != flowerIndex.getModCount(flowerData.flowerType, indexMin, indexMax)
+			|| tickHelper.updateOnInterval(flowerCheckInterval)) {
+			lookForFlowersInIndex(flowerIndex, flowerData, queen, beeHousing);
+		}
+	}
+
+	private void lookForFlowersInIndex(FlowerIndex flowerIndex, FlowerData flowerData, IBee queen, IBeeHousing beeHousing) {
+		Vec3i area = FlowerRegistry.getArea(beeHousing, queen);
+		BlockPos minPos = FlowerRegistry.getAreaMin(beeHousing, area);
+		BlockPos maxPos = minPos.add(area);
+		flowerData.indexMin = minPos;
+		flowerData.indexMax = maxPos;
+		flowerData.indexModCount = flowerIndex.getModCount(flowerData.flowerType, minPos, maxPos);
+
+		List<BlockPos> indexedFlowers = flowerIndex.getFlowers(flowerData.flowerType, minPos, maxPos);
+		if (!indexedFlowers.equals(flowerCoords)) {
+			flowerCoords.clear();
+			flowerCoords.addAll(indexedFlowers);
+			flowers.clear();
+			needsSync = true;
+		}
+	}
+
 	public boolean hasFlowers() {
 		return !flowerCoords.isEmpty();
 	}
@@ -156,10 +206,16 @@ public class HasFlowersCache implements INbtWritable, INbtReadable {
 
 	public void forceLookForFlowers(IBee queen, IBeeHousing housing) {
 		if (flowerData != null) {
+			World world = housing.getWorldObj();
+			FlowerIndex flowerIndex = FlowerIndex.get(world);
+			if (flowerIndex != null) {
+				lookForFlowersInIndex(flowerIndex, flowerData, queen, housing);
+				return;
+			}
+
 			flowerCoords.clear();
 			flowers.clear();
 			flowerData.resetIterator(queen, housing);
-			World world = housing.getWorldObj();
 			while (flowerData.areaIterator.hasNext()) {
 				BlockPos.MutableBlockPos blockPos = flowerData.areaIterator.next();
 				if (flowerData.flowerPredicate.test(world, blockPos)) {
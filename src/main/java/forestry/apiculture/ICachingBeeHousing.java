@@ -0,0 +1,22 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.apiculture;
+
+import forestry.api.apiculture.IBeeHousing;
+
+/**
+ * A bee housing that keeps one cached {@link BeeHousingModifier} for all of its bees. The housing invalidates the
+ * modifier whenever its set of bee modifiers changes, for example when a frame is inserted or worn out or when an
+ * alveary part is attached.
+ */
+public interface ICachingBeeHousing extends IBeeHousing {
+	BeeHousingModifier getCachedBeeModifier();
+}
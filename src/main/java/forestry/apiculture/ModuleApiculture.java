@@ -83,6 +83,7 @@ import forestry.apiculture.capabilities.ArmorApiarist;
 import forestry.apiculture.commands.CommandBee;
 import forestry.apiculture.entities.EntityMinecartApiary;
 import forestry.apiculture.entities.EntityMinecartBeehouse;
+import forestry.apiculture.flowers.FlowerIndexEventHandler;
 import forestry.apiculture.flowers.FlowerRegistry;
 import forestry.apiculture.genetics.BeeBranchDefinition;
 import forestry.apiculture.genetics.BeeDefinition;
@@ -105,6 +106,7 @@ import forestry.apiculture.multiblock.TileAlvearySieve;
 import forestry.apiculture.multiblock.TileAlvearyStabiliser;
 import forestry.apiculture.multiblock.TileAlvearySwarmer;
 import forestry.apiculture.network.PacketRegistryApiculture;
+import forestry.apiculture.tiles.DormantHives;
 import forestry.apiculture.tiles.TileCandle;
 import forestry.apiculture.tiles.TileHive;
 import forestry.apiculture.trigger.ApicultureTriggers;
@@ -168,6 +170,10 @@ public class ModuleApiculture extends BlankForestryModule {
 	public static boolean doSelfPollination = true;
 
 	public static int maxFlowersSpawnedPerHive = 20;
+
+	public static boolean flowerIndexEnabled = true;
+
+	public static int hiveDormancyRadius = 64;
 	@Nullable
 	public static VillagerRegistry.VillagerProfession villagerApiarist;
 
@@ -235,6 +241,8 @@ public class ModuleApiculture extends BlankForestryModule {
 		BeeDefinition.preInit();
 
 		MinecraftForge.EVENT_BUS.register(this);
+		MinecraftForge.EVENT_BUS.register(new FlowerIndexEventHandler());
+		MinecraftForge.EVENT_BUS.register(new DormantHives());
 
 		if (Config.enableVillagers) {
 			// Register village components with the Structure registry.
@@ -282,6 +290,10 @@ public class ModuleApiculture extends BlankForestryModule {
 
 		maxFlowersSpawnedPerHive = config.getIntLocalized("beekeeping", "flowers.spawn", 20, 0, 1000);
 
+		flowerIndexEnabled = config.getBooleanLocalized("beekeeping", "flowers.index", flowerIndexEnabled);
+
+		hiveDormancyRadius = config.getIntLocalized("beekeeping", "hives.dormancy.radius", hiveDormancyRadius, 0, 256);
+
 		String[] blacklist = config.getStringListLocalized("species", "blacklist", Constants.EMPTY_STRINGS);
 		parseBeeBlacklist(blacklist);
 
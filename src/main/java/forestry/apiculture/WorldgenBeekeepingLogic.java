@@ -37,6 +37,7 @@ public class WorldgenBeekeepingLogic implements IBeekeepingLogic {
 	private IEffectData effectData[] = new IEffectData[2];
 	private final HasFlowersCache hasFlowersCache = new HasFlowersCache(2);
 	private final TickHelper tickHelper = new TickHelper();
+	private boolean refreshPending;
 
 	// Client
 	private boolean active;
@@ -93,7 +94,8 @@ public class WorldgenBeekeepingLogic implements IBeekeepingLogic {
 	public boolean canWork() {
 		tickHelper.onTick();
 
-		if (tickHelper.updateOnInterval(200)) {
+		if (tickHelper.updateOnInterval(200) || refreshPending) {
+			refreshPending = false;
 			if (queen == null) {                //Trying to set this in constructor causes crash
 				queen = housing.getContainedBee();
 			}
@@ -113,6 +115,16 @@ public class WorldgenBeekeepingLogic implements IBeekeepingLogic {
 		return active;
 	}
 
+	/**
+	 * Called when the hive wakes up after being dormant for the given number of ticks. If it missed an update, the
+	 * state is refreshed on the next call to {@link #canWork()} instead of waiting for the next interval.
+	 */
+	public void onWakeUp(long dormantTicks) {
+		if (dormantTicks >= 200) {
+			refreshPending = true;
+		}
+	}
+
 	@Override
 	public void doWork() {
 
@@ -28,5 +28,6 @@ public class CommandBee extends SubCommand {
 		addChildCommand(new CommandMode(modeHelper));
 		addChildCommand(new CommandSaveStats(saveHelper, modeHelper));
 		addChildCommand(new CommandBeeGive());
+		addChildCommand(new CommandBeeHives());
 	}
 }
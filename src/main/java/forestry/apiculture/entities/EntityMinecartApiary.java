@@ -50,10 +50,12 @@ public class EntityMinecartApiary extends EntityMinecartBeeHousingBase implement
 	@SuppressWarnings("unused")
 	public EntityMinecartApiary(World world) {
 		super(world);
+		inventory.addFrameChangeListener(getCachedBeeModifier()::invalidate);
 	}
 
 	public EntityMinecartApiary(World world, double posX, double posY, double posZ) {
 		super(world, posX, posY, posZ);
+		inventory.addFrameChangeListener(getCachedBeeModifier()::invalidate);
 	}
 
 	@Override
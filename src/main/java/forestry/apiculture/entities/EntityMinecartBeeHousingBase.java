@@ -23,12 +23,13 @@ import net.minecraft.world.biome.Biome;
 import com.mojang.authlib.GameProfile;
 
 import forestry.api.apiculture.BeeManager;
-import forestry.api.apiculture.IBeeHousing;
 import forestry.api.apiculture.IBeekeepingLogic;
 import forestry.api.core.EnumHumidity;
 import forestry.api.core.EnumTemperature;
 import forestry.api.core.ForestryAPI;
 import forestry.api.core.IErrorLogic;
+import forestry.apiculture.BeeHousingModifier;
+import forestry.apiculture.ICachingBeeHousing;
 import forestry.apiculture.gui.IGuiBeeHousingDelegate;
 import forestry.apiculture.network.packets.PacketBeeLogicEntityRequest;
 import forestry.apiculture.tiles.TileBeeHousingBase;
@@ -44,7 +45,7 @@ import forestry.core.tiles.IClimatised;
 import forestry.core.utils.NetworkUtil;
 import forestry.core.utils.TickHelper;
 
-public abstract class EntityMinecartBeeHousingBase extends EntityMinecartContainerForestry implements IBeeHousing, IOwnedTile, IGuiBeeHousingDelegate, IClimatised, IStreamableGui {
+public abstract class EntityMinecartBeeHousingBase extends EntityMinecartContainerForestry implements ICachingBeeHousing, IOwnedTile, IGuiBeeHousingDelegate, IClimatised, IStreamableGui {
 	private static final DataParameter<Optional<GameProfile>> OWNER = EntityDataManager.createKey(EntityMinecartBeeHousingBase.class, GameProfileDataSerializer.INSTANCE);
 
 	private static final int beeFXInterval = 4;
@@ -52,6 +53,7 @@ public abstract class EntityMinecartBeeHousingBase extends EntityMinecartContain
 
 	private final TickHelper tickHelper = new TickHelper();
 
+	private final BeeHousingModifier beeHousingModifier = new BeeHousingModifier(this, true);
 	private final IBeekeepingLogic beeLogic = BeeManager.beeRoot.createBeekeepingLogic(this);
 	private final IErrorLogic errorLogic = ForestryAPI.errorStateRegistry.createErrorLogic();
 	private final OwnerHandler ownerHandler = new OwnerHandler() {
@@ -99,6 +101,11 @@ public abstract class EntityMinecartBeeHousingBase extends EntityMinecartContain
 		return beeLogic;
 	}
 
+	@Override
+	public BeeHousingModifier getCachedBeeModifier() {
+		return beeHousingModifier;
+	}
+
 	@Override
 	public EnumTemperature getTemperature() {
 		return EnumTemperature.getFromBiome(getBiome(), getPosition());
@@ -0,0 +1,247 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.apiculture.flowers;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+
+import forestry.api.apiculture.FlowerManager;
+import forestry.api.core.IBlockPosPredicate;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+
+/**
+ * Positions of accepted flowers per flower type in one world, shared by all bee housings of that world.
+ * <p>
+ * Chunk sections are scanned the first time a housing asks for flowers in them and are then kept up to date from block
+ * changes until their chunk unloads. Not every flower change is reported as a block change, for example flowers that
+ * live in tile entities, so a section is scanned again when it is asked for after {@link #RESCAN_INTERVAL} ticks.
+ * World generation does not report its block changes either, so a section of a chunk that was not populated yet is
+ * scanned again as soon as its chunk is populated.
+ */
+public class FlowerIndex {
+	private static final int SECTIONS_PER_CHUNK = 16;
+	private static final int RESCAN_INTERVAL = 1200;
+
+	private final World world;
+	private final Map<String, FlowerTypeIndex> flowerTypes = new HashMap<>();
+
+	public FlowerIndex(World world) {
+		this.world = world;
+	}
+
+	/**
+	 * @return all accepted flowers of the given type inside the box between min and max (both inclusive).
+	 */
+	public List<BlockPos> getFlowers(String flowerType, BlockPos min, BlockPos max) {
+		FlowerTypeIndex typeIndex = getTypeIndex(flowerType);
+		List<BlockPos> flowers = new ArrayList<>();
+
+		int minY = Math.max(0, min.getY());
+		int maxY = Math.min(world.getHeight() - 1, max.getY());
+		if (minY > maxY) {
+			return flowers;
+		}
+
+		for (int chunkX = min.getX() >> 4; chunkX <= max.getX() >> 4; chunkX++) {
+			for (int chunkZ = min.getZ() >> 4; chunkZ <= max.getZ() >> 4; chunkZ++) {
+				if (!world.isBlockLoaded(new BlockPos(chunkX << 4, 0, chunkZ << 4))) {
+					continue;
+				}
+				for (int sectionY = minY >> 4; sectionY <= maxY >> 4; sectionY++) {
+					LongSet section = typeIndex.getSection(world, chunkX, sectionY, chunkZ);
+					LongIterator iterator = section.iterator();
+					while (iterator.hasNext()) {
+						BlockPos pos = BlockPos.fromLong(iterator.nextLong());
+						if (pos.getX() >= min.getX() && pos.getX() <= max.getX()
+							&& pos.getY() >= minY && pos.getY() <= maxY
+							&& pos.getZ() >= min.getZ() && pos.getZ() <= max.getZ()) {
+							flowers.add(pos);
+						}
+					}
+				}
+			}
+		}
+		return flowers;
+	}
+
+	/**
+	 * @return a counter that changes whenever a flower of the given type is added to or removed from the index in one
+	 * of the chunks that overlap the box between min and max, by a block change or by scanning a section again.
+	 */
+	public int getModCount(String flowerType, BlockPos min, BlockPos max) {
+		FlowerTypeIndex typeIndex = getTypeIndex(flowerType);
+		int modCount = 0;
+		for (int chunkX = min.getX() >> 4; chunkX <= max.getX() >> 4; chunkX++) {
+			for (int chunkZ = min.getZ() >> 4; chunkZ <= max.getZ() >> 4; chunkZ++) {
+				modCount = Math.max(modCount, typeIndex.chunkModCounts.get(ChunkPos.asLong(chunkX, chunkZ)));
+			}
+		}
+		return modCount;
+	}
+
+	public void onBlockChanged(BlockPos pos) {
+		if (pos.getY() < 0 || pos.getY() >= world.getHeight()) {
+			return;
+		}
+		long chunkKey = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+		int sectionY = pos.getY() >> 4;
+		for (FlowerTypeIndex typeIndex : flowerTypes.values()) {
+			typeIndex.onBlockChanged(world, chunkKey, sectionY, pos);
+		}
+	}
+
+	public void onChunkUnloaded(int chunkX, int chunkZ) {
+		long chunkKey = ChunkPos.asLong(chunkX, chunkZ);
+		for (FlowerTypeIndex typeIndex : flowerTypes.values()) {
+			typeIndex.chunks.remove(chunkKey);
+			typeIndex.chunkModCounts.remove(chunkKey);
+		}
+	}
+
+	private FlowerTypeIndex getTypeIndex(String flowerType) {
+		return flowerTypes.computeIfAbsent(flowerType, FlowerTypeIndex::new);
+	}
+
+	private static class FlowerTypeIndex {
+		private final IBlockPosPredicate flowerPredicate;
+		private final Long2ObjectMap<Section[]> chunks = new Long2ObjectOpenHashMap<>();
+		/**
+		 * The value of {@link #modCount} at the last change of every chunk.
+		 * Only the chunks that changed since they were loaded have an entry.
+		 */
+		private final Long2IntMap chunkModCounts = new Long2IntOpenHashMap();
+		private int modCount;
+
+		public FlowerTypeIndex(String flowerType) {
+			this.flowerPredicate = FlowerManager.flowerRegistry.createAcceptedFlowerPredicate(flowerType);
+		}
+
+		public LongSet getSection(World world, int chunkX, int sectionY, int chunkZ) {
+			long chunkKey = ChunkPos.asLong(chunkX, chunkZ);
+			long worldTime = world.getTotalWorldTime();
+			Section[] sections = chunks.get(chunkKey);
+			Section section = sections != null ? sections[sectionY] : null;
+			boolean expired = section == null || worldTime - section.scanTime >= RESCAN_INTERVAL;
+			if (!expired && section.populated) {
+				return section.flowers;
+			}
+
+			Chunk chunk = world.getChunk(chunkX, chunkZ);
+			boolean populated = chunk.isPopulated();
+			// a section scanned before its chunk was populated stays valid until the chunk is populated
+			if (!expired && !populated) {
+				return section.flowers;
+			}
+
+			LongSet flowers = scanSection(world, chunk, sectionY);
+			if (sections == null) {
+				sections = new Section[SECTIONS_PER_CHUNK];
+				chunks.put(chunkKey, sections);
+			}
+			if (section != null && !section.flowers.equals(flowers)) {
+				chunkModCounts.put(chunkKey, ++modCount);
+			}
+			sections[sectionY] = new Section(flowers, worldTime, populated);
+			return flowers;
+		}
+
+		private LongSet scanSection(World world, Chunk chunk, int sectionY) {
+			LongSet section = new LongOpenHashSet();
+			ExtendedBlockStorage storage = chunk.getBlockStorageArray()[sectionY];
+			if (storage == Chunk.NULL_BLOCK_STORAGE || storage.isEmpty()) {
+				return section;
+			}
+
+			BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+			int minX = chunk.x << 4;
+			int minY = sectionY << 4;
+			int minZ = chunk.z << 4;
+			for (int y = minY; y < minY + 16; y++) {
+				for (int x = minX; x < minX + 16; x++) {
+					for (int z = minZ; z < minZ + 16; z++) {
+						pos.setPos(x, y, z);
+						if (flowerPredicate.test(world, pos)) {
+							section.add(pos.toLong());
+						}
+					}
+				}
+			}
+			return section;
+		}
+
+		public void onBlockChanged(World world, long chunkKey, int sectionY, BlockPos pos) {
+			Section[] sections = chunks.get(chunkKey);
+			if (sections == null) {
+				return;
+			}
+			Section section = sections[sectionY];
+			if (section == null) {
+				return;
+			}
+			boolean changed;
+			if (flowerPredicate.test(world, pos)) {
+				changed = section.flowers.add(pos.toLong());
+			} else {
+				changed = section.flowers.remove(pos.toLong());
+			}
+			if (changed) {
+				chunkModCounts.put(chunkKey, ++modCount);
+			}
+		}
+	}
+
+	private static class Section {
+		private final LongSet flowers;
+		private final long scanTime;
+		/**
+		 * False if the chunk was not populated yet when the section was scanned.
+		 */
+		private final boolean populated;
+
+		public Section(LongSet flowers, long scanTime, boolean populated) {
+			this.flowers = flowers;
+			this.scanTime = scanTime;
+			this.populated = populated;
+		}
+	}
+
+	/* PER WORLD */
+	private static final Map<World, FlowerIndex> indexes = new HashMap<>();
+
+	@Nullable
+	public static FlowerIndex get(World world) {
+		return indexes.get(world);
+	}
+
+	static void onWorldLoaded(World world) {
+		indexes.put(world, new FlowerIndex(world));
+	}
+
+	static void onWorldUnloaded(World world) {
+		indexes.remove(world);
+	}
+}
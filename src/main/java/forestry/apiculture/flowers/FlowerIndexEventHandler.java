@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.apiculture.flowers;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+
+import forestry.apiculture.ModuleApiculture;
+import forestry.core.utils.WorldEventListenerAdapter;
+
+/**
+ * Creates the {@link FlowerIndex} of every server world and feeds it block changes and chunk unloads.
+ */
+public class FlowerIndexEventHandler {
+	@SubscribeEvent
+	public void onWorldLoad(WorldEvent.Load event) {
+		World world = event.getWorld();
+		if (!world.isRemote && ModuleApiculture.flowerIndexEnabled) {
+			FlowerIndex.onWorldLoaded(world);
+			world.addEventListener(new BlockChangeListener());
+		}
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event) {
+		FlowerIndex.onWorldUnloaded(event.getWorld());
+	}
+
+	@SubscribeEvent
+	public void onChunkUnload(ChunkEvent.Unload event) {
+		FlowerIndex flowerIndex = FlowerIndex.get(event.getWorld());
+		if (flowerIndex != null) {
+			Chunk chunk = event.getChunk();
+			flowerIndex.onChunkUnloaded(chunk.x, chunk.z);
+		}
+	}
+
+	private static class BlockChangeListener extends WorldEventListenerAdapter {
+		@Override
+		public void notifyBlockUpdate(World world, BlockPos pos, IBlockState oldState, IBlockState newState, int flags) {
+			FlowerIndex flowerIndex = FlowerIndex.get(world);
+			if (flowerIndex != null) {
+				flowerIndex.onBlockChanged(pos);
+			}
+		}
+	}
+}
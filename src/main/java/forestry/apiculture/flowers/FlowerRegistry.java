@@ -153,14 +153,25 @@ public final class FlowerRegistry implements IFlowerRegistry, IFlowerGrowthHelpe
 
 	@Override
 	public Iterator<BlockPos.MutableBlockPos> getAreaIterator(IBeeHousing beeHousing, IBee bee) {
-		IBeeModifier beeModifier = BeeManager.beeRoot.createBeeHousingModifier(beeHousing);
-		Vec3i area = getArea(bee.getGenome(), beeModifier);
-		BlockPos minPos = beeHousing.getCoordinates().add(-area.getX() / 2, -area.getY() / 2, -area.getZ() / 2);
+		Vec3i area = getArea(beeHousing, bee);
+		BlockPos minPos = getAreaMin(beeHousing, area);
 		BlockPos maxPos = minPos.add(area);
 		World world = beeHousing.getWorldObj();
 		return VectUtil.getAllInBoxFromCenterMutable(world, minPos, beeHousing.getCoordinates(), maxPos);
 	}
 
+	/**
+	 * @return the size of the area in which the bee searches for flowers, see {@link #getAreaMin(IBeeHousing, Vec3i)}.
+	 */
+	public static Vec3i getArea(IBeeHousing beeHousing, IBee bee) {
+		IBeeModifier beeModifier = BeeManager.beeRoot.createBeeHousingModifier(beeHousing);
+		return getArea(bee.getGenome(), beeModifier);
+	}
+
+	public static BlockPos getAreaMin(IBeeHousing beeHousing, Vec3i area) {
+		return beeHousing.getCoordinates().add(-area.getX() / 2, -area.getY() / 2, -area.getZ() / 2);
+	}
+
 	@Override
 	@Deprecated
 	public boolean isAcceptedFlower(String flowerType, World world, BlockPos pos) {
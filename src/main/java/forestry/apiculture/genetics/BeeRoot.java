@@ -54,6 +54,7 @@ import forestry.api.genetics.IMutation;
 import forestry.api.genetics.ISpeciesType;
 import forestry.apiculture.BeeHousingListener;
 import forestry.apiculture.BeeHousingModifier;
+import forestry.apiculture.ICachingBeeHousing;
 import forestry.apiculture.BeekeepingLogic;
 import forestry.apiculture.ModuleApiculture;
 import forestry.apiculture.items.ItemRegistryApiculture;
@@ -279,7 +280,9 @@ public class BeeRoot extends SpeciesRoot implements IBeeRoot {
 	@Override
 	public List<IBeeMutation> getMutations(boolean shuffle) {
 		if (shuffle) {
-			Collections.shuffle(beeMutations);
+			List<IBeeMutation> mutations = new ArrayList<>(beeMutations);
+			Collections.shuffle(mutations);
+			return mutations;
 		}
 		return beeMutations;
 	}
@@ -297,6 +300,7 @@ public class BeeRoot extends SpeciesRoot implements IBeeRoot {
 		}
 
 		beeMutations.add((IBeeMutation) mutation);
+		invalidateMutationIndex();
 	}
 
 	/* BREEDING MODES */
@@ -378,6 +382,9 @@ public class BeeRoot extends SpeciesRoot implements IBeeRoot {
 
 	@Override
 	public IBeeModifier createBeeHousingModifier(IBeeHousing housing) {
+		if (housing instanceof ICachingBeeHousing) {
+			return ((ICachingBeeHousing) housing).getCachedBeeModifier();
+		}
 		return new BeeHousingModifier(housing);
 	}
 
@@ -23,6 +23,7 @@ import forestry.api.apiculture.IBeeHousing;
 import forestry.api.apiculture.IBeekeepingMode;
 import forestry.api.apiculture.IHiveFrame;
 import forestry.apiculture.InventoryBeeHousing;
+import forestry.core.inventory.watchers.ISlotChangeWatcher;
 import forestry.core.utils.SlotUtil;
 
 public class InventoryApiary extends InventoryBeeHousing implements IApiaryInventory {
@@ -49,6 +50,17 @@ public class InventoryApiary extends InventoryBeeHousing implements IApiaryInven
 			super.isItemValidForSlot(slotIndex, itemStack);
 	}
 
+	/**
+	 * Runs the listener whenever the frames of this inventory may have changed.
+	 */
+	public void addFrameChangeListener(Runnable listener) {
+		addSlotChangeWatcher((inventory, slotIndex) -> {
+			if (slotIndex == ISlotChangeWatcher.ALL_SLOTS || SlotUtil.isSlotInRange(slotIndex, SLOT_FRAMES_1, SLOT_FRAMES_COUNT)) {
+				listener.run();
+			}
+		});
+	}
+
 	public Collection<Tuple<IHiveFrame, ItemStack>> getFrames() {
 		Collection<Tuple<IHiveFrame, ItemStack>> hiveFrames = new ArrayList<>(SLOT_FRAMES_COUNT);
 
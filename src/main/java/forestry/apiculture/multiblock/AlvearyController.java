@@ -40,6 +40,8 @@ import forestry.api.core.EnumTemperature;
 import forestry.api.multiblock.IAlvearyComponent;
 import forestry.api.multiblock.IMultiblockComponent;
 import forestry.apiculture.AlvearyBeeModifier;
+import forestry.apiculture.BeeHousingModifier;
+import forestry.apiculture.ICachingBeeHousing;
 import forestry.apiculture.InventoryBeeHousing;
 import forestry.core.inventory.FakeInventoryAdapter;
 import forestry.core.inventory.IInventoryAdapter;
@@ -51,7 +53,7 @@ import forestry.core.render.ParticleRender;
 import forestry.core.utils.BlockUtil;
 import forestry.core.utils.Translator;
 
-public class AlvearyController extends RectangularMultiblockControllerBase implements IAlvearyControllerInternal, IClimateControlled {
+public class AlvearyController extends RectangularMultiblockControllerBase implements IAlvearyControllerInternal, ICachingBeeHousing, IClimateControlled {
 	private final InventoryBeeHousing inventory;
 	private final IBeekeepingLogic beekeepingLogic;
 	private final IClimateListener listener;
@@ -61,6 +63,7 @@ public class AlvearyController extends RectangularMultiblockControllerBase imple
 
 	// PARTS
 	private final Set<IBeeModifier> beeModifiers = new HashSet<>();
+	private final BeeHousingModifier beeHousingModifier = new BeeHousingModifier(this, true);
 	private final Set<IBeeListener> beeListeners = new HashSet<>();
 	private final Set<IAlvearyComponent.Climatiser> climatisers = new HashSet<>();
 	private final Set<IAlvearyComponent.Active> activeComponents = new HashSet<>();
@@ -111,6 +114,11 @@ public class AlvearyController extends RectangularMultiblockControllerBase imple
 		return beeModifiers;
 	}
 
+	@Override
+	public BeeHousingModifier getCachedBeeModifier() {
+		return beeHousingModifier;
+	}
+
 	@Override
 	public void onAttachedPartWithMultiblockData(IMultiblockComponent part, NBTTagCompound data) {
 		this.readFromNBT(data);
@@ -123,6 +131,7 @@ public class AlvearyController extends RectangularMultiblockControllerBase imple
 				IAlvearyComponent.BeeModifier alvearyBeeModifier = (IAlvearyComponent.BeeModifier) newPart;
 				IBeeModifier beeModifier = alvearyBeeModifier.getBeeModifier();
 				beeModifiers.add(beeModifier);
+				beeHousingModifier.invalidate();
 			}
 
 			if (newPart instanceof IAlvearyComponent.BeeListener) {
@@ -148,6 +157,7 @@ public class AlvearyController extends RectangularMultiblockControllerBase imple
 				IAlvearyComponent.BeeModifier alvearyBeeModifier = (IAlvearyComponent.BeeModifier) oldPart;
 				IBeeModifier beeModifier = alvearyBeeModifier.getBeeModifier();
 				beeModifiers.remove(beeModifier);
+				beeHousingModifier.invalidate();
 			}
 
 			if (oldPart instanceof IAlvearyComponent.BeeListener) {
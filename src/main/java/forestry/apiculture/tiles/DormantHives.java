@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.apiculture.tiles;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+
+import forestry.apiculture.ModuleApiculture;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+
+/**
+ * Wakes up dormant {@link TileHive}s once a player comes within the dormancy radius again.
+ * <p>
+ * Dormant hives do not tick, so they can not notice approaching players themselves. They are kept here per chunk and
+ * the chunks around every player are checked once a second.
+ */
+public class DormantHives {
+	private static final int CHECK_INTERVAL = 20;
+
+	private static final Map<World, Long2ObjectMap<Set<TileHive>>> worlds = new WeakHashMap<>();
+
+	static void add(TileHive hive) {
+		BlockPos pos = hive.getPos();
+		worlds.computeIfAbsent(hive.getWorld(), k -> new Long2ObjectOpenHashMap<>())
+			.computeIfAbsent(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4), k -> Collections.newSetFromMap(new IdentityHashMap<>()))
+			.add(hive);
+	}
+
+	static void remove(TileHive hive) {
+		World world = hive.getWorld();
+		if (world == null) {
+			return;
+		}
+		Long2ObjectMap<Set<TileHive>> chunks = worlds.get(world);
+		if (chunks == null) {
+			return;
+		}
+		BlockPos pos = hive.getPos();
+		long chunkKey = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+		Set<TileHive> hives = chunks.get(chunkKey);
+		if (hives != null) {
+			hives.remove(hive);
+			if (hives.isEmpty()) {
+				chunks.remove(chunkKey);
+			}
+		}
+	}
+
+	@SubscribeEvent
+	public void onWorldTick(TickEvent.WorldTickEvent event) {
+		World world = event.world;
+		if (event.phase != TickEvent.Phase.END || world.isRemote || world.getTotalWorldTime() % CHECK_INTERVAL != 0) {
+			return;
+		}
+		Long2ObjectMap<Set<TileHive>> chunks = worlds.get(world);
+		if (chunks == null || chunks.isEmpty()) {
+			return;
+		}
+
+		int radius = ModuleApiculture.hiveDormancyRadius;
+		double radiusSq = (double) radius * radius;
+		int chunkRadius = (radius >> 4) + 1;
+		List<TileHive> toWake = new ArrayList<>();
+		for (EntityPlayer player : world.playerEntities) {
+			if (player.isSpectator()) {
+				continue;
+			}
+			int playerChunkX = (int) Math.floor(player.posX) >> 4;
+			int playerChunkZ = (int) Math.floor(player.posZ) >> 4;
+			for (int chunkX = playerChunkX - chunkRadius; chunkX <= playerChunkX + chunkRadius; chunkX++) {
+				for (int chunkZ = playerChunkZ - chunkRadius; chunkZ <= playerChunkZ + chunkRadius; chunkZ++) {
+					Set<TileHive> hives = chunks.get(ChunkPos.asLong(chunkX, chunkZ));
+					if (hives == null) {
+						continue;
+					}
+					for (TileHive hive : hives) {
+						BlockPos pos = hive.getPos();
+						if (player.getDistanceSq(pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5) < radiusSq) {
+							toWake.add(hive);
+						}
+					}
+				}
+			}
+		}
+		for (TileHive hive : toWake) {
+			hive.wakeUp();
+		}
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event) {
+		worlds.remove(event.getWorld());
+	}
+}
@@ -52,6 +52,7 @@ public class TileApiary extends TileBeeHousingBase implements IApiary {
 	public TileApiary() {
 		super("apiary");
 		setInternalInventory(inventory);
+		inventory.addFrameChangeListener(getCachedBeeModifier()::invalidate);
 	}
 
 	@Override
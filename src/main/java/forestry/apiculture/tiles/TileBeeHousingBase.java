@@ -26,11 +26,12 @@ import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
 import forestry.api.apiculture.BeeManager;
-import forestry.api.apiculture.IBeeHousing;
 import forestry.api.apiculture.IBeekeepingLogic;
 import forestry.api.climate.ClimateCapabilities;
 import forestry.api.core.EnumHumidity;
 import forestry.api.core.EnumTemperature;
+import forestry.apiculture.BeeHousingModifier;
+import forestry.apiculture.ICachingBeeHousing;
 import forestry.apiculture.gui.IGuiBeeHousingDelegate;
 import forestry.core.climate.ClimateListener;
 import forestry.core.network.IStreamableGui;
@@ -42,9 +43,10 @@ import forestry.core.render.ParticleRender;
 import forestry.core.tiles.IClimatised;
 import forestry.core.tiles.TileBase;
 
-public abstract class TileBeeHousingBase extends TileBase implements IBeeHousing, IOwnedTile, IClimatised, IGuiBeeHousingDelegate, IStreamableGui {
+public abstract class TileBeeHousingBase extends TileBase implements ICachingBeeHousing, IOwnedTile, IClimatised, IGuiBeeHousingDelegate, IStreamableGui {
 	private final String hintKey;
 	private final OwnerHandler ownerHandler = new OwnerHandler();
+	private final BeeHousingModifier beeHousingModifier = new BeeHousingModifier(this, true);
 	private final IBeekeepingLogic beeLogic;
 	protected final ClimateListener climateListener;
 
@@ -68,6 +70,11 @@ public abstract class TileBeeHousingBase extends TileBase implements IBeeHousing
 		return beeLogic;
 	}
 
+	@Override
+	public BeeHousingModifier getCachedBeeModifier() {
+		return beeHousingModifier;
+	}
+
 	/* LOADING & SAVING */
 	@Override
 	public NBTTagCompound writeToNBT(NBTTagCompound nbttagcompound) {
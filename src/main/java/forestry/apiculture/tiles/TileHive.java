@@ -69,14 +69,17 @@ import forestry.core.config.Config;
 import forestry.core.inventory.InventoryAdapter;
 import forestry.core.network.packets.PacketActiveUpdate;
 import forestry.core.tiles.IActivatable;
+import forestry.core.tiles.ISleepingTile;
+import forestry.core.tiles.SleepingTiles;
 import forestry.core.utils.DamageSourceForestry;
 import forestry.core.utils.InventoryUtil;
 import forestry.core.utils.ItemStackUtil;
 import forestry.core.utils.NetworkUtil;
 import forestry.core.utils.TickHelper;
 
-public class TileHive extends TileEntity implements ITickable, IHiveTile, IActivatable, IBeeHousing {
+public class TileHive extends TileEntity implements ITickable, IHiveTile, IActivatable, IBeeHousing, ISleepingTile {
 	private static final DamageSource damageSourceBeeHive = new DamageSourceForestry("bee.hive");
+	private static final int DORMANCY_CHECK_INTERVAL = 100;
 
 	private final InventoryAdapter contained = new InventoryAdapter(2, "Contained");
 	private final HiveBeeHousingInventory inventory;
@@ -90,6 +93,11 @@ public class TileHive extends TileEntity implements ITickable, IHiveTile, IActiv
 	private boolean active = false;
 	private boolean angry = false;
 	private int calmTime;
+	/**
+	 * Dormant hives have no player nearby and are taken off the ticking list until {@link DormantHives} wakes them up.
+	 */
+	private boolean dormant;
+	private long dormantSince;
 
 	/**
 	 * Hack to make sure that hives glow.
@@ -145,7 +153,68 @@ public class TileHive extends TileEntity implements ITickable, IHiveTile, IActiv
 			}
 
 			setActive(calmTime == 0);
+
+			if (tickHelper.updateOnInterval(DORMANCY_CHECK_INTERVAL) && canBecomeDormant()) {
+				fallDormant();
+			}
+		}
+	}
+
+	private boolean canBecomeDormant() {
+		int radius = ModuleApiculture.hiveDormancyRadius;
+		if (radius <= 0 || angry) {
+			return false;
+		}
+		BlockPos pos = getPos();
+		return !world.isAnyPlayerWithinRangeAt(pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5, radius);
+	}
+
+	private void fallDormant() {
+		dormant = true;
+		dormantSince = world.getTotalWorldTime();
+		DormantHives.add(this);
+		SleepingTiles.onSleepStateChanged(this);
+	}
+
+	/**
+	 * Puts a dormant hive back on the ticking list and catches up with the world time it missed.
+	 */
+	public void wakeUp() {
+		if (!dormant || world == null || world.isRemote) {
+			return;
+		}
+		dormant = false;
+		long elapsed = world.getTotalWorldTime() - dormantSince;
+		// the hive is never angry while dormant, so it calms down once every 200 ticks
+		calmTime = (int) Math.max(0, calmTime - elapsed / 200);
+		beeLogic.onWakeUp(elapsed);
+		DormantHives.remove(this);
+		SleepingTiles.onSleepStateChanged(this);
+	}
+
+	@Override
+	public boolean isSleeping() {
+		return dormant;
+	}
+
+	@Override
+	public void invalidate() {
+		super.invalidate();
+		forgetDormancy();
+	}
+
+	@Override
+	public void onChunkUnload() {
+		super.onChunkUnload();
+		forgetDormancy();
+	}
+
+	private void forgetDormancy() {
+		if (world != null && !world.isRemote) {
+			DormantHives.remove(this);
+			SleepingTiles.forget(this);
 		}
+		dormant = false;
 	}
 
 	public IBee getContainedBee() {
@@ -222,6 +291,7 @@ public class TileHive extends TileEntity implements ITickable, IHiveTile, IActiv
 
 	@Override
 	public void onAttack(World world, BlockPos pos, EntityPlayer player) {
+		wakeUp();
 		if (calmTime == 0) {
 			angry = true;
 		}
@@ -11,8 +11,11 @@
 package forestry.apiculture.worldgen;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 
 import net.minecraft.block.Block;
@@ -38,6 +41,19 @@ public abstract class HiveDecorator {
 	@Nullable
 	private static final EventType EVENT_TYPE = EnumHelper.addEnum(EventType.class, "FORESTRY_HIVES", new Class[0]);
 
+	/**
+	 * All registered hives, taken from the registry on the first decoration.
+	 */
+	@Nullable
+	private static List<Hive> hives;
+	/**
+	 * The hives that like the humidity of a biome and can generate in it. The arrays are shuffled in place for every try.
+	 */
+	private static final Map<Biome, Hive[]> hivesByBiome = new IdentityHashMap<>();
+
+	private static long decoratedChunks;
+	private static long decorationTime;
+
 	public static void decorateHives(IChunkGenerator chunkProvider, World world, Random rand, int chunkX, int chunkZ, boolean hasVillageGenerated) {
 		if (!TerrainGen.populate(chunkProvider, world, rand, chunkX, chunkZ, hasVillageGenerated, EVENT_TYPE)) {
 			return;
@@ -47,19 +63,28 @@ public abstract class HiveDecorator {
 	}
 
 	public static void decorateHives(World world, Random rand, int chunkX, int chunkZ) {
-		List<Hive> hives = ModuleApiculture.getHiveRegistry().getHives();
+		List<Hive> hives = getHives();
 
 		if (Config.generateBeehivesDebug) {
-			decorateHivesDebug(world, rand, chunkX, chunkZ, hives);
+			decorateHivesDebug(world, rand, chunkX, chunkZ, new ArrayList<>(hives));
 			return;
 		}
 
+		long startTime = System.nanoTime();
+		try {
+			decorateHives(world, rand, chunkX, chunkZ, hives.size());
+		} finally {
+			decorationTime += System.nanoTime() - startTime;
+			decoratedChunks++;
+		}
+	}
+
+	private static void decorateHives(World world, Random rand, int chunkX, int chunkZ, int hiveCount) {
 		int worldX = (chunkX << 4) + 8;
 		int worldZ = (chunkZ << 4) + 8;
+		double chanceFactor = Config.getBeehivesAmount() * hiveCount / 8;
 
-		Collections.shuffle(hives, rand);
-
-		for (int tries = 0; tries < hives.size() / 2; tries++) {
+		for (int tries = 0; tries < hiveCount / 2; tries++) {
 			int x = worldX + rand.nextInt(16);
 			int z = worldZ + rand.nextInt(16);
 
@@ -68,21 +93,68 @@ public abstract class HiveDecorator {
 				Log.error("tried to generate a hive in an unloaded area.");
 				return;
 			}
-			Biome biome = world.getBiome(pos);
-			EnumHumidity humidity = EnumHumidity.getFromValue(biome.getRainfall());
+			Hive[] candidates = getHives(world.getBiome(pos));
+			if (candidates.length == 0) {
+				continue;
+			}
 
-			for (Hive hive : hives) {
-				if (hive.genChance() * Config.getBeehivesAmount() * hives.size() / 8 >= rand.nextFloat() * 100.0f) {
-					if (hive.isGoodBiome(biome) && hive.isGoodHumidity(humidity)) {
-						if (tryGenHive(world, rand, x, z, hive)) {
-							return;
-						}
+			// try the candidates in a random order, like the shuffled hive list did before
+			for (int i = candidates.length - 1; i > 0; i--) {
+				int j = rand.nextInt(i + 1);
+				Hive hive = candidates[i];
+				candidates[i] = candidates[j];
+				candidates[j] = hive;
+			}
+			for (Hive hive : candidates) {
+				if (hive.genChance() * chanceFactor >= rand.nextFloat() * 100.0f) {
+					if (tryGenHive(world, rand, x, z, hive)) {
+						return;
 					}
 				}
 			}
 		}
 	}
 
+	private static List<Hive> getHives() {
+		List<Hive> registeredHives = hives;
+		if (registeredHives == null) {
+			registeredHives = Collections.unmodifiableList(ModuleApiculture.getHiveRegistry().getHives());
+			hives = registeredHives;
+		}
+		return registeredHives;
+	}
+
+	/**
+	 * @return the candidates of the biome. The array is shared and only used on the server thread.
+	 */
+	private static Hive[] getHives(Biome biome) {
+		Hive[] candidates = hivesByBiome.get(biome);
+		if (candidates == null) {
+			EnumHumidity humidity = EnumHumidity.getFromValue(biome.getRainfall());
+			candidates = getHives().stream()
+				.filter(hive -> hive.isGoodBiome(biome) && hive.isGoodHumidity(humidity))
+				.toArray(Hive[]::new);
+			hivesByBiome.put(biome, candidates);
+		}
+		return candidates;
+	}
+
+	public static long getDecoratedChunks() {
+		return decoratedChunks;
+	}
+
+	/**
+	 * @return the average time of the hive decoration of one chunk, in nanoseconds.
+	 */
+	public static long getAverageDecorationTime() {
+		return decoratedChunks == 0 ? 0 : decorationTime / decoratedChunks;
+	}
+
+	public static void resetDecorationTime() {
+		decoratedChunks = 0;
+		decorationTime = 0;
+	}
+
 	private static void decorateHivesDebug(World world, Random rand, int chunkX, int chunkZ, List<Hive> hives) {
 		int worldX = (chunkX << 4) + 8;
 		int worldZ = (chunkZ << 4) + 8;
@@ -1,29 +1,56 @@
 package forestry.arboriculture;
 
+import javax.annotation.Nullable;
+import java.util.Map;
 import java.util.Random;
+import java.util.WeakHashMap;
 
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockLeaves;
 import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
 
 import forestry.arboriculture.blocks.BlockAbstractLeaves;
 
+import it.unimi.dsi.fastutil.longs.Long2ByteMap;
+import it.unimi.dsi.fastutil.longs.Long2ByteOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongList;
+
 /**
  * Based on vanilla leaf decay in {@link BlockLeaves#updateTick(World, BlockPos, IBlockState, Random)}
  * but accepts leaves that are connected further from a trunk
+ * <p>
+ * Leaves that want a decay check are collected during the tick and checked together at the end of the world tick.
+ * A leaf is sustained if a block that sustains leaves can be reached through at most {@link #MAX_DISTANCE} leaves.
+ * All leaves of a tick share one search, so a felled tree does not make every leaf scan the same area again.
+ * Block states are read directly from the chunk sections and each position is only classified once per tick.
  */
 public class LeafDecayHelper {
+	private static final int MAX_DISTANCE = 8;
+	private static final int MAX_CHECKS_PER_TICK = 1024;
+	private static final int MAX_DECAYS_PER_TICK = 128;
+
 	private static final byte SUSTAINS_LEAVES = 0;
-	private static final byte NOT_SUSTAINS_LEAVES = -1;
-	private static final byte IS_LEAVES = -2;
-	private static final int ARRAY_SIZE = 32;
-	private static final byte[][][] leafDecayValues;
+	private static final byte NOT_SUSTAINS_LEAVES = 1;
+	private static final byte IS_LEAVES = 2;
 
-	static {
-		leafDecayValues = new byte[ARRAY_SIZE][ARRAY_SIZE][ARRAY_SIZE];
-	}
+	private static final Map<World, LeafDecayHelper> helpers = new WeakHashMap<>();
 
 	public static void leafDecay(BlockAbstractLeaves leaves, World world, BlockPos pos) {
 		if (world.isRemote) {
@@ -42,73 +69,259 @@ public class LeafDecayHelper {
 			world.setBlockState(pos, state);
 		}
 
-		if (state.getValue(BlockLeaves.CHECK_DECAY) && state.getValue(BlockLeaves.DECAYABLE)) {
-			byte radius = 4;
-			int arrayOffset = ARRAY_SIZE / 2;
-
-			if (world.isAreaLoaded(pos, radius + 1)) {
-				for (int xOffset = -radius; xOffset <= radius; ++xOffset) {
-					for (int yOffset = -radius; yOffset <= radius; ++yOffset) {
-						for (int zOffset = -radius; zOffset <= radius; ++zOffset) {
-							BlockPos blockPos = pos.add(xOffset, yOffset, zOffset);
-							IBlockState blockState = world.getBlockState(blockPos);
-							Block block = blockState.getBlock();
-							if (!block.canSustainLeaves(blockState, world, blockPos)) {
-								if (block.isLeaves(blockState, world, blockPos)) {
-									leafDecayValues[xOffset + arrayOffset][yOffset + arrayOffset][zOffset + arrayOffset] = IS_LEAVES;
-								} else {
-									leafDecayValues[xOffset + arrayOffset][yOffset + arrayOffset][zOffset + arrayOffset] = NOT_SUSTAINS_LEAVES;
-								}
-							} else {
-								leafDecayValues[xOffset + arrayOffset][yOffset + arrayOffset][zOffset + arrayOffset] = SUSTAINS_LEAVES;
-							}
-						}
+		if (state.getValue(BlockLeaves.CHECK_DECAY)) {
+			helpers.computeIfAbsent(world, LeafDecayHelper::new).pending.add(pos.toLong());
+		}
+	}
+
+	private final World world;
+	private final LongLinkedOpenHashSet pending = new LongLinkedOpenHashSet();
+
+	/* SCRATCH, only used on the server thread of the world during one tick */
+	private final Long2ObjectMap<ExtendedBlockStorage[]> chunkSections = new Long2ObjectOpenHashMap<>();
+	private final Long2ByteMap blockTypes = new Long2ByteOpenHashMap();
+	/**
+	 * Distances of the leaves and sustaining blocks from the leaves of the batch.
+	 */
+	private final Long2ByteMap searchDistances = new Long2ByteOpenHashMap();
+	/**
+	 * Distances of the sustained leaves from the closest sustaining block.
+	 */
+	private final Long2ByteMap sustainDistances = new Long2ByteOpenHashMap();
+	private final LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+	private final BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
+
+	private LeafDecayHelper(World world) {
+		this.world = world;
+		blockTypes.defaultReturnValue((byte) -1);
+	}
+
+	private void processPending() {
+		LongList batch = new LongArrayList();
+		LongIterator iterator = pending.iterator();
+		while (iterator.hasNext() && batch.size() < MAX_CHECKS_PER_TICK) {
+			batch.add(iterator.nextLong());
+			iterator.remove();
+		}
+
+		try {
+			LongList sustainers = findSustainers(batch);
+			findSustainedLeaves(sustainers);
+
+			int decays = 0;
+			for (int i = 0; i < batch.size(); i++) {
+				long leafPos = batch.getLong(i);
+				if (sustainDistances.containsKey(leafPos)) {
+					BlockPos pos = BlockPos.fromLong(leafPos);
+					IBlockState state = world.getBlockState(pos);
+					if (isCheckingDecay(state)) {
+						world.setBlockState(pos, state.withProperty(BlockLeaves.CHECK_DECAY, false), 4); // stop trying to decay
+					}
+				} else if (decays < MAX_DECAYS_PER_TICK) {
+					if (decay(BlockPos.fromLong(leafPos))) {
+						decays++;
 					}
+				} else {
+					pending.add(leafPos);
 				}
+			}
+		} finally {
+			chunkSections.clear();
+			blockTypes.clear();
+			searchDistances.clear();
+			sustainDistances.clear();
+			queue.clear();
+		}
+	}
 
-				for (byte sustainedValue = 1; sustainedValue <= 8; ++sustainedValue) {
-					for (int xOffset = -radius; xOffset <= radius; ++xOffset) {
-						for (int yOffset = -radius; yOffset <= radius; ++yOffset) {
-							for (int zOffset = -radius; zOffset <= radius; ++zOffset) {
-								if (leafDecayValues[xOffset + arrayOffset][yOffset + arrayOffset][zOffset + arrayOffset] == sustainedValue - 1) {
-									if (leafDecayValues[(xOffset + arrayOffset - 1)][yOffset + arrayOffset][zOffset + arrayOffset] == IS_LEAVES) {
-										leafDecayValues[(xOffset + arrayOffset - 1)][yOffset + arrayOffset][zOffset + arrayOffset] = sustainedValue;
-									}
-
-									if (leafDecayValues[(xOffset + arrayOffset + 1)][yOffset + arrayOffset][zOffset + arrayOffset] == IS_LEAVES) {
-										leafDecayValues[(xOffset + arrayOffset + 1)][yOffset + arrayOffset][zOffset + arrayOffset] = sustainedValue;
-									}
-
-									if (leafDecayValues[xOffset + arrayOffset][(yOffset + arrayOffset - 1)][zOffset + arrayOffset] == IS_LEAVES) {
-										leafDecayValues[xOffset + arrayOffset][(yOffset + arrayOffset - 1)][zOffset + arrayOffset] = sustainedValue;
-									}
-
-									if (leafDecayValues[xOffset + arrayOffset][(yOffset + arrayOffset + 1)][zOffset + arrayOffset] == IS_LEAVES) {
-										leafDecayValues[xOffset + arrayOffset][(yOffset + arrayOffset + 1)][zOffset + arrayOffset] = sustainedValue;
-									}
-
-									if (leafDecayValues[xOffset + arrayOffset][yOffset + arrayOffset][zOffset + arrayOffset - 1] == IS_LEAVES) {
-										leafDecayValues[xOffset + arrayOffset][yOffset + arrayOffset][zOffset + arrayOffset - 1] = sustainedValue;
-									}
-
-									if (leafDecayValues[xOffset + arrayOffset][yOffset + arrayOffset][zOffset + arrayOffset + 1] == IS_LEAVES) {
-										leafDecayValues[xOffset + arrayOffset][yOffset + arrayOffset][zOffset + arrayOffset + 1] = sustainedValue;
-									}
-								}
-							}
-						}
-					}
+	/**
+	 * Searches from all leaves of the batch through up to {@link #MAX_DISTANCE} leaves.
+	 * Every leaf the search reaches is classified on the way.
+	 *
+	 * @return the blocks that sustain leaves and were reached by the search.
+	 */
+	private LongList findSustainers(LongList batch) {
+		LongList sustainers = new LongArrayList();
+		for (int i = 0; i < batch.size(); i++) {
+			long leafPos = batch.getLong(i);
+			if (!searchDistances.containsKey(leafPos) && getBlockType(leafPos) == IS_LEAVES) {
+				searchDistances.put(leafPos, (byte) 0);
+				queue.enqueue(leafPos);
+			}
+		}
+
+		while (!queue.isEmpty()) {
+			long leafPos = queue.dequeueLong();
+			byte distance = searchDistances.get(leafPos);
+			if (distance >= MAX_DISTANCE) {
+				continue;
+			}
+			for (EnumFacing facing : EnumFacing.VALUES) {
+				long neighborPos = offset(leafPos, facing);
+				if (searchDistances.containsKey(neighborPos)) {
+					continue;
+				}
+				byte blockType = getBlockType(neighborPos);
+				if (blockType == IS_LEAVES) {
+					searchDistances.put(neighborPos, (byte) (distance + 1));
+					queue.enqueue(neighborPos);
+				} else if (blockType == SUSTAINS_LEAVES) {
+					searchDistances.put(neighborPos, (byte) (distance + 1));
+					sustainers.add(neighborPos);
 				}
 			}
+		}
+		return sustainers;
+	}
 
-			byte sustainValue = leafDecayValues[arrayOffset][arrayOffset][arrayOffset];
+	/**
+	 * Searches from the sustaining blocks through the leaves reached by {@link #findSustainers(LongList)}.
+	 * Afterwards the sustained leaves are the ones with a sustain distance.
+	 */
+	private void findSustainedLeaves(LongList sustainers) {
+		for (int i = 0; i < sustainers.size(); i++) {
+			long sustainerPos = sustainers.getLong(i);
+			sustainDistances.put(sustainerPos, (byte) 0);
+			queue.enqueue(sustainerPos);
+		}
+
+		while (!queue.isEmpty()) {
+			long pos = queue.dequeueLong();
+			byte distance = sustainDistances.get(pos);
+			if (distance >= MAX_DISTANCE) {
+				continue;
+			}
+			for (EnumFacing facing : EnumFacing.VALUES) {
+				long neighborPos = offset(pos, facing);
+				if (!searchDistances.containsKey(neighborPos) || sustainDistances.containsKey(neighborPos)) {
+					continue;
+				}
+				if (blockTypes.get(neighborPos) == IS_LEAVES) {
+					sustainDistances.put(neighborPos, (byte) (distance + 1));
+					queue.enqueue(neighborPos);
+				}
+			}
+		}
+	}
 
-			if (sustainValue >= 0) {
-				world.setBlockState(pos, state.withProperty(BlockLeaves.CHECK_DECAY, false), 4); // stop trying to decay
+	private boolean decay(BlockPos pos) {
+		IBlockState state = world.getBlockState(pos);
+		if (!isCheckingDecay(state)) {
+			return false;
+		}
+		Block block = state.getBlock();
+		block.dropBlockAsItem(world, pos, state, 0);
+		world.setBlockToAir(pos);
+		return true;
+	}
+
+	private static boolean isCheckingDecay(IBlockState state) {
+		return state.getBlock() instanceof BlockAbstractLeaves
+			&& state.getProperties().containsKey(BlockLeaves.CHECK_DECAY)
+			&& state.getValue(BlockLeaves.CHECK_DECAY)
+			&& state.getValue(BlockLeaves.DECAYABLE);
+	}
+
+	/* PACKED POSITIONS, with the same bit layout as {@link BlockPos#toLong()} */
+	private static final int NUM_XZ_BITS = 26;
+	private static final int NUM_Y_BITS = 12;
+	private static final int Y_SHIFT = NUM_XZ_BITS;
+	private static final int X_SHIFT = Y_SHIFT + NUM_Y_BITS;
+	private static final long XZ_MASK = (1L << NUM_XZ_BITS) - 1L;
+	private static final long Y_MASK = (1L << NUM_Y_BITS) - 1L;
+
+	private static int getX(long pos) {
+		return (int) (pos >> X_SHIFT);
+	}
+
+	private static int getY(long pos) {
+		return (int) (pos << (64 - X_SHIFT) >> (64 - NUM_Y_BITS));
+	}
+
+	private static int getZ(long pos) {
+		return (int) (pos << (64 - NUM_XZ_BITS) >> (64 - NUM_XZ_BITS));
+	}
+
+	private static long toLong(int x, int y, int z) {
+		return (x & XZ_MASK) << X_SHIFT | (y & Y_MASK) << Y_SHIFT | z & XZ_MASK;
+	}
+
+	private static long offset(long pos, EnumFacing facing) {
+		return toLong(getX(pos) + facing.getXOffset(), getY(pos) + facing.getYOffset(), getZ(pos) + facing.getZOffset());
+	}
+
+	private byte getBlockType(long pos) {
+		byte cachedType = blockTypes.get(pos);
+		if (cachedType >= 0) {
+			return cachedType;
+		}
+		mutablePos.setPos(getX(pos), getY(pos), getZ(pos));
+		byte blockType;
+		IBlockState blockState = getBlockState(mutablePos);
+		if (blockState == null) {
+			// never decay leaves next to unloaded chunks
+			blockType = SUSTAINS_LEAVES;
+		} else {
+			Block block = blockState.getBlock();
+			if (block.canSustainLeaves(blockState, world, mutablePos)) {
+				blockType = SUSTAINS_LEAVES;
+			} else if (block.isLeaves(blockState, world, mutablePos)) {
+				blockType = IS_LEAVES;
 			} else {
-				leaves.dropBlockAsItem(world, pos, state, 0);
-				world.setBlockToAir(pos);
+				blockType = NOT_SUSTAINS_LEAVES;
+			}
+		}
+		blockTypes.put(pos, blockType);
+		return blockType;
+	}
+
+	/**
+	 * @return the block state at the position, or null if its chunk is not loaded.
+	 */
+	@Nullable
+	private IBlockState getBlockState(BlockPos pos) {
+		int y = pos.getY();
+		if (y < 0 || y >= world.getHeight()) {
+			return Blocks.AIR.getDefaultState();
+		}
+		int chunkX = pos.getX() >> 4;
+		int chunkZ = pos.getZ() >> 4;
+		long chunkKey = ChunkPos.asLong(chunkX, chunkZ);
+		ExtendedBlockStorage[] sections = chunkSections.get(chunkKey);
+		if (sections == null) {
+			if (chunkSections.containsKey(chunkKey)) {
+				return null;
+			}
+			Chunk chunk = world.getChunkProvider().getLoadedChunk(chunkX, chunkZ);
+			sections = chunk == null ? null : chunk.getBlockStorageArray();
+			chunkSections.put(chunkKey, sections);
+			if (sections == null) {
+				return null;
+			}
+		}
+
+		ExtendedBlockStorage section = sections[y >> 4];
+		if (section == Chunk.NULL_BLOCK_STORAGE) {
+			return Blocks.AIR.getDefaultState();
+		}
+		return section.get(pos.getX() & 15, y & 15, pos.getZ() & 15);
+	}
+
+	public static class EventHandler {
+		@SubscribeEvent
+		public void onWorldTick(TickEvent.WorldTickEvent event) {
+			if (event.phase != TickEvent.Phase.END || event.world.isRemote) {
+				return;
+			}
+			LeafDecayHelper helper = helpers.get(event.world);
+			if (helper != null && !helper.pending.isEmpty()) {
+				helper.processPending();
 			}
 		}
+
+		@SubscribeEvent
+		public void onWorldUnload(WorldEvent.Unload event) {
+			helpers.remove(event.getWorld());
+		}
 	}
 }
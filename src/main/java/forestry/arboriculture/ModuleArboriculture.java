@@ -184,6 +184,7 @@ public class ModuleArboriculture extends BlankForestryModule {
 	@Override
 	public void preInit() {
 		MinecraftForge.EVENT_BUS.register(this);
+		MinecraftForge.EVENT_BUS.register(new LeafDecayHelper.EventHandler());
 
 		if (TreeConfig.getSpawnRarity(null) > 0.0F) {
 			MinecraftForge.TERRAIN_GEN_BUS.register(new TreeDecorator());
@@ -98,6 +98,7 @@ import forestry.core.genetics.alleles.AlleleBoolean;
 import forestry.core.genetics.alleles.AlleleHelper;
 import forestry.core.genetics.alleles.EnumAllele;
 import forestry.core.tiles.TileUtil;
+import forestry.core.worldgen.BlockPlacementBatch;
 
 public enum TreeDefinition implements ITreeDefinition, ITreeGenerator, IStringSerializable {
 	Oak(TreeBranchDefinition.QUERCUS, "appleOak", "robur", false, EnumLeafType.DECIDUOUS, new Color(4764952), new Color(4764952).brighter(), EnumVanillaWoodType.OAK) {
@@ -1031,7 +1032,7 @@ public enum TreeDefinition implements ITreeDefinition, ITreeGenerator, IStringSe
 		IBlockState logBlock = TreeManager.woodAccess.getBlock(woodType, WoodBlockKind.LOG, fireproof);
 
 		BlockLog.EnumAxis axis = BlockLog.EnumAxis.fromFacingAxis(facing.getAxis());
-		return world.setBlockState(pos, logBlock.withProperty(BlockLog.LOG_AXIS, axis));
+		return BlockPlacementBatch.setBlockState(world, pos, logBlock.withProperty(BlockLog.LOG_AXIS, axis));
 	}
 
 	@Override
@@ -1050,10 +1051,10 @@ public enum TreeDefinition implements ITreeDefinition, ITreeGenerator, IStringSe
 			} else {
 				defaultLeaves = ModuleArboriculture.getBlocks().getDefaultLeaves(speciesUid);
 			}
-			return world.setBlockState(pos, defaultLeaves);
+			return BlockPlacementBatch.setBlockState(world, pos, defaultLeaves);
 		} else {
 			IBlockState leaves = ModuleArboriculture.getBlocks().leaves.getDefaultState();
-			boolean placed = world.setBlockState(pos, leaves);
+			boolean placed = BlockPlacementBatch.setBlockState(world, pos, leaves);
 			if (!placed) {
 				return false;
 			}
@@ -1067,7 +1068,7 @@ public enum TreeDefinition implements ITreeDefinition, ITreeGenerator, IStringSe
 			if (owner != null) {
 				tileLeaves.getOwnerHandler().setOwner(owner);
 			}
-			tileLeaves.setTree(new Tree(genome));
+			tileLeaves.setTree(TreeRoot.getInternedTree(genome));
 
 			world.markBlockRangeForRenderUpdate(pos, pos);
 			return true;
@@ -32,8 +32,11 @@ import forestry.api.genetics.IAlleleSpecies;
 import forestry.api.genetics.IChromosome;
 import forestry.api.genetics.ISpeciesRoot;
 import forestry.core.genetics.Genome;
+import forestry.core.genetics.GenomeCache;
 
 public class TreeGenome extends Genome implements ITreeGenome {
+	private static final GenomeCache<TreeGenome> treeGenomeCache = new GenomeCache<>("trees", TreeGenome::new);
+
 	@Nullable
 	private Boolean matchesTemplateCached;
 
@@ -41,10 +44,21 @@ public class TreeGenome extends Genome implements ITreeGenome {
 		super(chromosomes);
 	}
 
-	public TreeGenome(NBTTagCompound nbttagcompound) {
+	private TreeGenome(NBTTagCompound nbttagcompound) {
 		super(nbttagcompound);
 	}
 
+	public static TreeGenome fromNBT(NBTTagCompound nbtTagCompound) {
+		return treeGenomeCache.get(nbtTagCompound);
+	}
+
+	@Override
+	public NBTTagCompound writeToNBT(NBTTagCompound nbttagcompound) {
+		super.writeToNBT(nbttagcompound);
+		treeGenomeCache.put(nbttagcompound, this);
+		return nbttagcompound;
+	}
+
 	// NBT RETRIEVAL
 	public static IAlleleTreeSpecies getSpecies(ItemStack itemStack) {
 		Preconditions.checkArgument(TreeManager.treeRoot.isMember(itemStack), "ItemStack must be a tree");
@@ -11,6 +11,8 @@
 package forestry.arboriculture.genetics;
 
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 
 import javax.annotation.Nullable;
 import java.util.ArrayList;
@@ -58,6 +60,7 @@ import forestry.api.genetics.AlleleManager;
 import forestry.api.genetics.IAllele;
 import forestry.api.genetics.IAlyzerPlugin;
 import forestry.api.genetics.ICheckPollinatable;
+import forestry.api.genetics.IChromosome;
 import forestry.api.genetics.IChromosomeType;
 import forestry.api.genetics.IDatabasePlugin;
 import forestry.api.genetics.IFruitFamily;
@@ -85,6 +88,12 @@ public class TreeRoot extends SpeciesRoot implements ITreeRoot {
 	@Nullable
 	private static ITreekeepingMode activeTreekeepingMode;
 	public static final List<ITree> treeTemplates = new ArrayList<>();
+	/**
+	 * Canonical genomes by the uids of their alleles, and the unmated trees built from them.
+	 * Both are only held as long as a tile or item still uses them.
+	 */
+	private static final Cache<List<String>, ITreeGenome> internedGenomes = CacheBuilder.newBuilder().weakValues().build();
+	private static final Cache<ITreeGenome, ITree> internedTrees = CacheBuilder.newBuilder().weakKeys().weakValues().build();
 
 	private final Map<IFruitFamily, Collection<IFruitProvider>> providersForFamilies = new HashMap<>();
 	private final List<ITreekeepingMode> treekeepingModes = new ArrayList<>();
@@ -301,6 +310,51 @@ public class TreeRoot extends SpeciesRoot implements ITreeRoot {
 		return new Tree(templateAsGenome(templateActive, templateInactive));
 	}
 
+	/* INTERNING */
+
+	/**
+	 * @return the canonical instance of all genomes with the same alleles as the given one.
+	 */
+	public static ITreeGenome internGenome(ITreeGenome genome) {
+		IChromosome[] chromosomes = genome.getChromosomes();
+		List<String> alleleUids = new ArrayList<>(chromosomes.length * 2);
+		for (IChromosome chromosome : chromosomes) {
+			alleleUids.add(chromosome.getPrimaryAllele().getUID());
+			alleleUids.add(chromosome.getSecondaryAllele().getUID());
+		}
+		ITreeGenome interned = internedGenomes.asMap().putIfAbsent(alleleUids, genome);
+		return interned != null ? interned : genome;
+	}
+
+	/**
+	 * Trees of leaves and saplings are shared between every tile with the same genome.
+	 * A shared tree must never be changed, replace it with a copy instead (for example before mating).
+	 *
+	 * @return a shared unmated tree with the canonical instance of the given genome.
+	 */
+	public static ITree getInternedTree(ITreeGenome genome) {
+		ITreeGenome interned = internGenome(genome);
+		ITree tree = internedTrees.getIfPresent(interned);
+		if (tree == null) {
+			tree = new Tree(interned);
+			ITree existing = internedTrees.asMap().putIfAbsent(interned, tree);
+			if (existing != null) {
+				tree = existing;
+			}
+		}
+		return tree;
+	}
+
+	/**
+	 * @return the shared tree for trees that carry nothing but their genome, otherwise the tree itself.
+	 */
+	public static ITree intern(ITree tree) {
+		if (tree.getMate() != null || tree.isAnalyzed()) {
+			return tree;
+		}
+		return getInternedTree(tree.getGenome());
+	}
+
 	/* BREEDING TRACKER */
 	@Override
 	public IArboristTracker getBreedingTracker(World world, @Nullable GameProfile player) {
@@ -390,7 +444,9 @@ public class TreeRoot extends SpeciesRoot implements ITreeRoot {
 	@Override
 	public List<ITreeMutation> getMutations(boolean shuffle) {
 		if (shuffle) {
-			Collections.shuffle(treeMutations);
+			List<ITreeMutation> mutations = new ArrayList<>(treeMutations);
+			Collections.shuffle(mutations);
+			return mutations;
 		}
 		return treeMutations;
 	}
@@ -408,6 +464,7 @@ public class TreeRoot extends SpeciesRoot implements ITreeRoot {
 		}
 
 		treeMutations.add((ITreeMutation) mutation);
+		invalidateMutationIndex();
 	}
 
 	/* ILEAFTICKHANDLER */
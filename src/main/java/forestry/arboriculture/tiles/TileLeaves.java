@@ -56,6 +56,7 @@ import forestry.api.lepidopterology.IButterflyNursery;
 import forestry.apiculture.ModuleApiculture;
 import forestry.arboriculture.ModuleArboriculture;
 import forestry.arboriculture.genetics.TreeDefinition;
+import forestry.arboriculture.genetics.TreeRoot;
 import forestry.arboriculture.network.IRipeningPacketReceiver;
 import forestry.arboriculture.network.PacketRipeningUpdate;
 import forestry.core.network.PacketBufferForestry;
@@ -333,7 +334,10 @@ public class TileLeaves extends TileTreeContainer implements IPollinatable, IFru
 				return;
 			}
 
-			tree.mate((ITree) individual);
+			// the contained tree may be shared with other leaves
+			ITree matedTree = tree.copy();
+			matedTree.mate((ITree) individual);
+			replaceTree(matedTree);
 			if (!world.isRemote) {
 				sendNetworkUpdate();
 			}
@@ -422,9 +426,12 @@ public class TileLeaves extends TileTreeContainer implements IPollinatable, IFru
 				}
 			}
 
-			ITree tree = TreeManager.treeRoot.templateAsIndividual(treeTemplate);
+			ITree tree;
 			if (isPollinatedState) {
+				tree = TreeManager.treeRoot.templateAsIndividual(treeTemplate);
 				tree.mate(tree);
+			} else {
+				tree = TreeRoot.getInternedTree(TreeManager.treeRoot.templateAsGenome(treeTemplate));
 			}
 
 			setTree(tree);
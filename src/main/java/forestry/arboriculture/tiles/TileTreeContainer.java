@@ -31,6 +31,7 @@ import forestry.api.arboriculture.ITree;
 import forestry.api.arboriculture.TreeManager;
 import forestry.api.genetics.IAllele;
 import forestry.arboriculture.genetics.Tree;
+import forestry.arboriculture.genetics.TreeRoot;
 import forestry.core.network.IStreamable;
 import forestry.core.network.PacketBufferForestry;
 import forestry.core.owner.IOwnedTile;
@@ -54,8 +55,13 @@ public abstract class TileTreeContainer extends TileEntity implements IStreamabl
 	public void readFromNBT(NBTTagCompound nbttagcompound) {
 		super.readFromNBT(nbttagcompound);
 
-		if (nbttagcompound.hasKey("ContainedTree")) {
-			containedTree = new Tree(nbttagcompound.getCompoundTag("ContainedTree"));
+		if (nbttagcompound.hasKey("ContainedTreeSpecies")) {
+			IAllele[] treeTemplate = TreeManager.treeRoot.getTemplate(nbttagcompound.getString("ContainedTreeSpecies"));
+			if (treeTemplate != null) {
+				containedTree = TreeRoot.getInternedTree(TreeManager.treeRoot.templateAsGenome(treeTemplate));
+			}
+		} else if (nbttagcompound.hasKey("ContainedTree")) {
+			containedTree = TreeRoot.intern(new Tree(nbttagcompound.getCompoundTag("ContainedTree")));
 		}
 		ownerHandler.readFromNBT(nbttagcompound);
 	}
@@ -64,7 +70,10 @@ public abstract class TileTreeContainer extends TileEntity implements IStreamabl
 	public NBTTagCompound writeToNBT(NBTTagCompound nbttagcompound) {
 		nbttagcompound = super.writeToNBT(nbttagcompound);
 
-		if (containedTree != null) {
+		if (containedTree != null && isTemplateTree(containedTree)) {
+			// the species is enough to rebuild trees that carry nothing but their template genome
+			nbttagcompound.setString("ContainedTreeSpecies", containedTree.getIdent());
+		} else if (containedTree != null) {
 			NBTTagCompound subcompound = new NBTTagCompound();
 			containedTree.writeToNBT(subcompound);
 			nbttagcompound.setTag("ContainedTree", subcompound);
@@ -94,7 +103,11 @@ public abstract class TileTreeContainer extends TileEntity implements IStreamabl
 	private static ITree getTree(String speciesUID) {
 		IAllele[] treeTemplate = TreeManager.treeRoot.getTemplate(speciesUID);
 		Preconditions.checkArgument(treeTemplate != null, "There is no tree template for speciesUID %s", speciesUID);
-		return TreeManager.treeRoot.templateAsIndividual(treeTemplate);
+		return TreeRoot.getInternedTree(TreeManager.treeRoot.templateAsGenome(treeTemplate));
+	}
+
+	private static boolean isTemplateTree(ITree tree) {
+		return tree.getMate() == null && !tree.isAnalyzed() && tree.getGenome().matchesTemplateGenome();
 	}
 
 	/* CLIENT INFORMATION */
@@ -112,6 +125,15 @@ public abstract class TileTreeContainer extends TileEntity implements IStreamabl
 		return this.containedTree;
 	}
 
+	/**
+	 * Replaces the contained tree with a changed copy, without the side effects of {@link #setTree(ITree)}.
+	 * Contained trees may be shared with other tiles (see {@link TreeRoot#getInternedTree}), so they are never changed
+	 * in place.
+	 */
+	protected void replaceTree(ITree tree) {
+		this.containedTree = tree;
+	}
+
 	@Override
 	public IOwnerHandler getOwnerHandler() {
 		return ownerHandler;
@@ -15,6 +15,8 @@ import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 
+import forestry.core.worldgen.BlockPlacementBatch;
+
 public class TreeBlockType implements ITreeBlockType {
 
 	private final IBlockState blockState;
@@ -30,7 +32,7 @@ public class TreeBlockType implements ITreeBlockType {
 
 	@Override
 	public boolean setBlock(World world, BlockPos pos) {
-		return world.setBlockState(pos, blockState);
+		return BlockPlacementBatch.setBlockState(world, pos, blockState);
 	}
 
 	public IBlockState getBlockState() {
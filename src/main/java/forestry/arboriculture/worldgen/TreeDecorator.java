@@ -42,6 +42,7 @@ import forestry.api.genetics.IAllele;
 import forestry.arboriculture.TreeConfig;
 import forestry.arboriculture.commands.TreeGenHelper;
 import forestry.core.utils.BlockUtil;
+import forestry.core.worldgen.BlockPlacementBatch;
 
 public class TreeDecorator {
 	private static final List<IAlleleTreeSpecies> SPECIES = new ArrayList<>();
@@ -62,6 +63,15 @@ public class TreeDecorator {
 		if (biomeCache.isEmpty()) {
 			generateBiomeCache(world, rand);
 		}
+		BlockPlacementBatch batch = BlockPlacementBatch.start(world, false);
+		try {
+			decorateTrees(world, rand, worldX, worldZ, globalRarity);
+		} finally {
+			batch.finish();
+		}
+	}
+
+	private static void decorateTrees(World world, Random rand, int worldX, int worldZ, float globalRarity) {
 		for (int tries = 0; tries < 4 + rand.nextInt(2); tries++) {
 			int x = worldX + rand.nextInt(16);
 			int z = worldZ + rand.nextInt(16);
@@ -28,6 +28,7 @@ import forestry.arboriculture.blocks.BlockSapling;
 import forestry.arboriculture.tiles.TileTreeContainer;
 import forestry.core.tiles.TileUtil;
 import forestry.core.utils.TopDownBlockPosComparator;
+import forestry.core.worldgen.BlockPlacementBatch;
 import forestry.core.worldgen.WorldGenBase;
 
 public abstract class WorldGenArboriculture extends WorldGenBase {
@@ -61,10 +62,15 @@ public abstract class WorldGenArboriculture extends WorldGenBase {
 
 		if (genPos != null) {
 			clearSaplings(world, genPos);
-			List<BlockPos> branchEnds = new ArrayList<>(generateTrunk(world, rand, wood, genPos));
-			branchEnds.sort(TopDownBlockPosComparator.INSTANCE);
-			generateLeaves(world, rand, leaf, branchEnds, genPos);
-			generateExtras(world, rand, genPos);
+			BlockPlacementBatch batch = BlockPlacementBatch.start(world, true);
+			try {
+				List<BlockPos> branchEnds = new ArrayList<>(generateTrunk(world, rand, wood, genPos));
+				branchEnds.sort(TopDownBlockPosComparator.INSTANCE);
+				generateLeaves(world, rand, leaf, branchEnds, genPos);
+				generateExtras(world, rand, genPos);
+			} finally {
+				batch.finish();
+			}
 			return true;
 		}
 
@@ -51,8 +51,12 @@ import forestry.core.blocks.BlockRegistryCore;
 import forestry.core.blocks.EnumResourceType;
 import forestry.core.circuits.CircuitRegistry;
 import forestry.core.circuits.SolderManager;
+import forestry.core.commands.CommandGenomeCache;
 import forestry.core.commands.CommandListAlleles;
 import forestry.core.commands.CommandModules;
+import forestry.core.commands.CommandPacketStats;
+import forestry.core.commands.CommandRecipeStats;
+import forestry.core.commands.CommandSleepingTiles;
 import forestry.core.commands.RootCommand;
 import forestry.core.config.Config;
 import forestry.core.config.Constants;
@@ -72,6 +76,7 @@ import forestry.core.proxy.Proxies;
 import forestry.core.recipes.HygroregulatorManager;
 import forestry.core.recipes.RecipeUtil;
 import forestry.core.render.TextureManagerForestry;
+import forestry.core.tiles.SleepingTiles;
 import forestry.core.utils.ClimateUtil;
 import forestry.core.utils.ForestryModEnvWarningCallable;
 import forestry.core.utils.OreDictUtil;
@@ -139,9 +144,14 @@ public class ModuleCore extends BlankForestryModule {
 
 		MinecraftForge.EVENT_BUS.register(this);
 		MinecraftForge.EVENT_BUS.register(new ClimateHandlerServer());
+		MinecraftForge.EVENT_BUS.register(new SleepingTiles());
 
 		rootCommand.addChildCommand(new CommandModules());
 		rootCommand.addChildCommand(new CommandListAlleles());
+		rootCommand.addChildCommand(new CommandGenomeCache());
+		rootCommand.addChildCommand(new CommandPacketStats());
+		rootCommand.addChildCommand(new CommandRecipeStats());
+		rootCommand.addChildCommand(new CommandSleepingTiles());
 	}
 
 	@Override
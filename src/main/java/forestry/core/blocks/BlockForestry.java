@@ -68,4 +68,15 @@ public abstract class BlockForestry extends Block implements IItemModelRegister,
 			}
 		}
 	}
+
+	/**
+	 * Wakes up sleeping tiles when a neighbor block changes, for example when the redstone signal changes.
+	 */
+	@Override
+	public void neighborChanged(IBlockState state, World world, BlockPos pos, Block block, BlockPos fromPos) {
+		super.neighborChanged(state, world, pos, block, fromPos);
+		if (!world.isRemote) {
+			TileUtil.actOnTile(world, pos, TileForestry.class, tile -> tile.onNeighborBlockChange(fromPos));
+		}
+	}
 }
@@ -24,8 +24,8 @@ import forestry.api.climate.Position2D;
 import forestry.api.core.INbtWritable;
 import forestry.core.utils.NBTUtilForestry;
 
-import it.unimi.dsi.fastutil.longs.Long2LongArrayMap;
 import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 
@@ -45,7 +45,12 @@ public class WorldClimateHolder extends WorldSavedData implements IWorldClimateH
 
 	private final Long2ObjectMap<TransformerData> transformers = new Long2ObjectOpenHashMap<>();
 	private final Long2ObjectMap<long[]> transformersByChunk = new Long2ObjectOpenHashMap<>();
-	private final Long2LongMap chunkUpdates = new Long2LongArrayMap();
+	private final Long2LongMap chunkUpdates = new Long2LongOpenHashMap();
+	/**
+	 * The climate of every column of the chunks with transformers. Built on the first query and dropped whenever the
+	 * transformers of the chunk change.
+	 */
+	private final Long2ObjectMap<ChunkClimate> chunkClimates = new Long2ObjectOpenHashMap<>();
 
 	@Nullable
 	private World world;
@@ -61,6 +66,7 @@ public class WorldClimateHolder extends WorldSavedData implements IWorldClimateH
 	@Override
 	public void readFromNBT(NBTTagCompound nbt) {
 		transformers.clear();
+		chunkClimates.clear();
 		NBTTagList transformerData = nbt.getTagList(TRANSFORMERS_KEY, Constants.NBT.TAG_COMPOUND);
 		for (int i = 0; i < transformerData.tagCount(); i++) {
 			NBTTagCompound tagCompound = transformerData.getCompoundTagAt(i);
@@ -143,6 +149,7 @@ public class WorldClimateHolder extends WorldSavedData implements IWorldClimateH
 	}
 
 	private void markChunkUpdate(long chunkPos) {
+		chunkClimates.remove(chunkPos);
 		if (world != null) {
 			chunkUpdates.put(chunkPos, world.getTotalWorldTime());
 		}
@@ -158,6 +165,9 @@ public class WorldClimateHolder extends WorldSavedData implements IWorldClimateH
 			boolean needClimateUpdate = !data.climateState.equals(transformer.getCurrent());
 			data.climateState = transformer.getCurrent().toImmutable();
 			if (needChunkUpdate) {
+				for (long chunkPos : data.chunks) {
+					chunkClimates.remove(chunkPos);
+				}
 				data.circular = transformer.isCircular();
 				data.range = transformer.getRange();
 				data.chunks = updateTransformerChunks(transformer, needClimateUpdate);
@@ -169,6 +179,9 @@ public class WorldClimateHolder extends WorldSavedData implements IWorldClimateH
 		} else {
 			long[] transformerChunks = updateTransformerChunks(transformer, false);
 			transformers.put(longPos, new TransformerData(longPos, transformer.getCurrent().toImmutable(), transformer.getRange(), transformer.isCircular(), transformerChunks));
+			for (long chunkPos : transformerChunks) {
+				chunkClimates.remove(chunkPos);
+			}
 		}
 		setDirty(true);
 	}
@@ -225,29 +238,34 @@ public class WorldClimateHolder extends WorldSavedData implements IWorldClimateH
 	@Override
 	public boolean isPositionInTransformerRange(long position, Position2D blockPos) {
 		BlockPos pos = BlockPos.fromLong(position);
-		int range = getRange(position);
-		if (isCircular(position)) {
-			double distance = Math.round(blockPos.getDistance(pos));
+		TransformerData data = transformers.getOrDefault(position, DEFAULT_DATA);
+		return isInRange(data, pos.getX(), pos.getZ(), blockPos.getX(), blockPos.getZ());
+	}
+
+	private static boolean isInRange(TransformerData data, int transformerX, int transformerZ, int x, int z) {
+		int range = data.range;
+		if (data.circular) {
+			double distanceX = x - transformerX;
+			double distanceZ = z - transformerZ;
+			double distance = Math.round(Math.sqrt(distanceX * distanceX + distanceZ * distanceZ));
 			return range > 0.0F && distance <= range;
 		}
-		return MathHelper.abs(blockPos.getX() - pos.getX()) <= range && MathHelper.abs(blockPos.getZ() - pos.getZ()) <= range;
+		return MathHelper.abs(x - transformerX) <= range && MathHelper.abs(z - transformerZ) <= range;
 	}
 
 	@Override
 	public IClimateState getState(BlockPos pos) {
 		long chunkPos = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
-		if (!transformersByChunk.containsKey(chunkPos)) {
-			return ClimateStateHelper.INSTANCE.absent();
-		}
-		double transformerCount = 0;
-		IClimateState state = ClimateStateHelper.INSTANCE.mutableZero();
-		for (long transformerPos : transformersByChunk.get(chunkPos)) {
-			if (isPositionInTransformerRange(transformerPos, new Position2D(pos))) {
-				state = state.add(getClimate(transformerPos));
-				transformerCount++;
+		ChunkClimate climate = chunkClimates.get(chunkPos);
+		if (climate == null) {
+			long[] chunkTransformers = transformersByChunk.get(chunkPos);
+			if (chunkTransformers == null) {
+				return ClimateStateHelper.INSTANCE.absent();
 			}
+			climate = new ChunkClimate(pos.getX() & ~15, pos.getZ() & ~15, chunkTransformers);
+			chunkClimates.put(chunkPos, climate);
 		}
-		return transformerCount > 0 ? state.multiply(1.0D / transformerCount).toImmutable() : ClimateStateHelper.INSTANCE.absent();
+		return climate.getState(pos.getX() & 15, pos.getZ() & 15);
 	}
 
 	@Override
@@ -265,6 +283,63 @@ public class WorldClimateHolder extends WorldSavedData implements IWorldClimateH
 		return chunkUpdates.get(chunkPos);
 	}
 
+	/**
+	 * The averaged climate of all transformers that reach a column, for the 16x16 columns of one chunk.
+	 */
+	private class ChunkClimate {
+		private final float[] temperatures = new float[256];
+		private final float[] humidities = new float[256];
+		private final IClimateState[] states = new IClimateState[256];
+
+		private ChunkClimate(int minX, int minZ, long[] chunkTransformers) {
+			int[] transformerCounts = new int[256];
+			for (long transformerPos : chunkTransformers) {
+				TransformerData data = transformers.getOrDefault(transformerPos, DEFAULT_DATA);
+				BlockPos pos = BlockPos.fromLong(transformerPos);
+				int transformerX = pos.getX();
+				int transformerZ = pos.getZ();
+				float temperature = data.climateState.getTemperature();
+				float humidity = data.climateState.getHumidity();
+				for (int index = 0; index < 256; index++) {
+					if (isInRange(data, transformerX, transformerZ, minX + (index & 15), minZ + (index >> 4))) {
+						temperatures[index] += temperature;
+						humidities[index] += humidity;
+						transformerCounts[index]++;
+					}
+				}
+			}
+			for (int index = 0; index < 256; index++) {
+				int count = transformerCounts[index];
+				if (count == 0) {
+					states[index] = ClimateStateHelper.INSTANCE.absent();
+				} else {
+					double factor = 1.0D / count;
+					temperatures[index] *= factor;
+					humidities[index] *= factor;
+				}
+			}
+		}
+
+		/**
+		 * @return the immutable state of the column, only created on the first query of that column.
+		 */
+		private IClimateState getState(int x, int z) {
+			int index = z << 4 | x;
+			IClimateState state = states[index];
+			if (state == null) {
+				float temperature = temperatures[index];
+				float humidity = humidities[index];
+				if (Float.isNaN(temperature) || Float.isNaN(humidity)) {
+					state = ClimateStateHelper.INSTANCE.absent();
+				} else {
+					state = ClimateStateHelper.INSTANCE.create(temperature, humidity);
+				}
+				states[index] = state;
+			}
+			return state;
+		}
+	}
+
 	private static class TransformerData implements INbtWritable {
 		private IClimateState climateState = ClimateStateHelper.INSTANCE.absent();
 		private int range;
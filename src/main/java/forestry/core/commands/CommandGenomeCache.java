@@ -0,0 +1,35 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.commands;
+
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+
+import forestry.core.genetics.GenomeCache;
+
+public class CommandGenomeCache extends SubCommand {
+
+	public CommandGenomeCache() {
+		super("genomeCache");
+		setPermLevel(PermLevel.ADMIN);
+	}
+
+	@Override
+	public void executeSubCommand(MinecraftServer server, ICommandSender sender, String[] args) {
+		for (GenomeCache<?> cache : GenomeCache.getCaches()) {
+			long hits = cache.getHitCount();
+			long misses = cache.getMissCount();
+			long lookups = hits + misses;
+			String hitRate = lookups > 0 ? String.format("%.1f", 100.0 * hits / lookups) : "-";
+			CommandHelpers.sendLocalizedChatMessage(sender, "for.chat.command.forestry.genomeCache.entry", cache.getName(), hits, misses, hitRate, cache.getSize());
+		}
+	}
+}
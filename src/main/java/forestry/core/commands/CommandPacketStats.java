@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.commands;
+
+import javax.annotation.Nullable;
+import java.util.List;
+
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+
+import forestry.core.network.PacketStatistics;
+
+public class CommandPacketStats extends SubCommand {
+	private static final String RESET = "reset";
+
+	public CommandPacketStats() {
+		super("packetStats");
+		setPermLevel(PermLevel.ADMIN);
+	}
+
+	@Override
+	public void executeSubCommand(MinecraftServer server, ICommandSender sender, String[] args) {
+		if (args.length > 0 && RESET.equals(args[0])) {
+			PacketStatistics.reset();
+			CommandHelpers.sendLocalizedChatMessage(sender, "for.chat.command.forestry.packetStats.reset");
+			return;
+		}
+
+		for (PacketStatistics.Entry entry : PacketStatistics.getEntries()) {
+			CommandHelpers.sendLocalizedChatMessage(sender, "for.chat.command.forestry.packetStats.entry", entry.getPacketId(), entry.getPackets(), entry.getBytes());
+		}
+	}
+
+	@Override
+	public List<String> getTabCompletions(MinecraftServer server, ICommandSender sender, String[] args, @Nullable BlockPos targetPos) {
+		return CommandHelpers.getListOfStringsMatchingLastWord(args, RESET);
+	}
+}
@@ -0,0 +1,41 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.commands;
+
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.WorldServer;
+
+import forestry.core.tiles.ISleepingTile;
+import forestry.core.tiles.SleepingTiles;
+
+public class CommandSleepingTiles extends SubCommand {
+
+	public CommandSleepingTiles() {
+		super("sleepingTiles");
+		setPermLevel(PermLevel.ADMIN);
+	}
+
+	@Override
+	public void executeSubCommand(MinecraftServer server, ICommandSender sender, String[] args) {
+		for (WorldServer world : server.worlds) {
+			int awake = 0;
+			for (TileEntity tile : world.tickableTileEntities) {
+				if (tile instanceof ISleepingTile) {
+					awake++;
+				}
+			}
+			int sleeping = SleepingTiles.getSleepingCount(world);
+			CommandHelpers.sendLocalizedChatMessage(sender, "for.chat.command.forestry.sleepingTiles.entry", world.provider.getDimension(), sleeping, awake);
+		}
+	}
+}
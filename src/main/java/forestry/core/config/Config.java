@@ -75,6 +75,7 @@ public class Config {
 	public static int analyzerEnergyPerWork = 20320;
 	public static float researchMutationBoostMultiplier = 1.5f;
 	public static float maxResearchMutationBoostPercent = 5.0f;
+	public static boolean compactGenomes = false;
 
 	// World generation
 	public static boolean generateApatiteOre = true;
@@ -93,6 +94,8 @@ public class Config {
 
 	// Performance
 	public static boolean enableBackpackResupply = true;
+	public static boolean enableSleepingTiles = false;
+	public static int farmWorkBudget = 2000;
 
 	// Customization
 	private static boolean craftingBronzeEnabled = true;
@@ -283,8 +286,11 @@ public class Config {
 		analyzerEnergyPerWork = configCommon.getIntLocalized("genetics", "analyzerblock.energy.use", 20320, 0, 100000);
 		researchMutationBoostMultiplier = configCommon.getFloatLocalized("genetics.research.boost", "multiplier", researchMutationBoostMultiplier, 1.0f, 1000.f);
 		maxResearchMutationBoostPercent = configCommon.getFloatLocalized("genetics.research.boost", "max.percent", maxResearchMutationBoostPercent, 0.0f, 100.0f);
+		compactGenomes = configCommon.getBooleanLocalized("genetics", "compact.genomes", compactGenomes);
 
 		enableBackpackResupply = configCommon.getBooleanLocalized("performance", "backpacks.resupply", enableBackpackResupply);
+		enableSleepingTiles = configCommon.getBooleanLocalized("performance", "sleeping.tiles", enableSleepingTiles);
+		farmWorkBudget = configCommon.getIntLocalized("performance", "farms.budget", farmWorkBudget, 0, 50000);
 
 		humusDegradeDelimiter = configCommon.getIntLocalized("tweaks.humus", "degradeDelimiter", humusDegradeDelimiter, 1, 10);
 
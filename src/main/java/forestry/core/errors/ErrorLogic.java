@@ -12,8 +12,8 @@ package forestry.core.errors;
 
 import com.google.common.collect.ImmutableSet;
 
-import java.util.HashSet;
-import java.util.Set;
+import javax.annotation.Nullable;
+import java.util.BitSet;
 
 import net.minecraft.network.PacketBuffer;
 
@@ -21,25 +21,38 @@ import forestry.api.core.ForestryAPI;
 import forestry.api.core.IErrorLogic;
 import forestry.api.core.IErrorState;
 
+/**
+ * Keeps the active error states as bits indexed by their id.
+ * <p>
+ * Housings clear and set their conditions again every tick, so {@link #getErrorStates()} only builds a new set if the
+ * bits differ from the ones the last set was built for. Callers can compare the returned sets by identity to find out
+ * whether anything changed since they last looked.
+ */
 public class ErrorLogic implements IErrorLogic {
-	private final Set<IErrorState> errorStates = new HashSet<>();
+	private final BitSet errorStates = new BitSet();
+	/**
+	 * The bits {@link #errorStateSet} was built for.
+	 */
+	private final BitSet errorStateSetBits = new BitSet();
+	@Nullable
+	private ImmutableSet<IErrorState> errorStateSet;
+
+	private static int getIndex(IErrorState errorState) {
+		return errorState.getID() & 0xFFFF;
+	}
 
 	@Override
 	public final boolean setCondition(boolean condition, IErrorState errorState) {
 		if (errorState == null) {
 			return false;
 		}
-		if (condition) {
-			errorStates.add(errorState);
-		} else {
-			errorStates.remove(errorState);
-		}
+		errorStates.set(getIndex(errorState), condition);
 		return condition;
 	}
 
 	@Override
 	public final boolean contains(IErrorState state) {
-		return errorStates.contains(state);
+		return errorStates.get(getIndex(state));
 	}
 
 	@Override
@@ -49,7 +62,19 @@ public class ErrorLogic implements IErrorLogic {
 
 	@Override
 	public final ImmutableSet<IErrorState> getErrorStates() {
-		return ImmutableSet.copyOf(errorStates);
+		if (errorStateSet == null || !errorStates.equals(errorStateSetBits)) {
+			ImmutableSet.Builder<IErrorState> builder = ImmutableSet.builder();
+			for (int index = errorStates.nextSetBit(0); index >= 0; index = errorStates.nextSetBit(index + 1)) {
+				IErrorState errorState = ForestryAPI.errorStateRegistry.getErrorState((short) index);
+				if (errorState != null) {
+					builder.add(errorState);
+				}
+			}
+			errorStateSet = builder.build();
+			errorStateSetBits.clear();
+			errorStateSetBits.or(errorStates);
+		}
+		return errorStateSet;
 	}
 
 	@Override
@@ -59,9 +84,9 @@ public class ErrorLogic implements IErrorLogic {
 
 	@Override
 	public void writeData(PacketBuffer data) {
-		data.writeShort(errorStates.size());
-		for (IErrorState errorState : errorStates) {
-			data.writeShort(errorState.getID());
+		data.writeShort(errorStates.cardinality());
+		for (int index = errorStates.nextSetBit(0); index >= 0; index = errorStates.nextSetBit(index + 1)) {
+			data.writeShort(index);
 		}
 	}
 
@@ -74,7 +99,7 @@ public class ErrorLogic implements IErrorLogic {
 			short errorStateId = data.readShort();
 			IErrorState errorState = ForestryAPI.errorStateRegistry.getErrorState(errorStateId);
 			if (errorState != null) {
-				errorStates.add(errorState);
+				setCondition(true, errorState);
 			}
 		}
 	}
@@ -0,0 +1,18 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.fluids;
+
+/**
+ * Notified by a {@link TankManager} when the contents of one of its tanks are filled, drained or loaded.
+ */
+public interface ITankChangeWatcher {
+	void onTankChanged(StandardTank tank);
+}
@@ -43,6 +43,7 @@ import forestry.core.network.packets.PacketTankLevelUpdate;
 import forestry.core.render.EnumTankLevel;
 import forestry.core.tiles.ILiquidTankTile;
 import forestry.core.tiles.IRenderableTile;
+import forestry.core.tiles.TileForestry;
 import forestry.core.utils.NBTUtilForestry;
 import forestry.core.utils.NBTUtilForestry.NBTList;
 import forestry.core.utils.NetworkUtil;
@@ -61,6 +62,7 @@ public class TankManager implements ITankManager, ITankUpdateHandler, IStreamabl
 	@Nullable
 	private final ILiquidTankTile tile;
 	private final List<EnumTankLevel> tankLevels = new ArrayList<>();
+	private final List<ITankChangeWatcher> tankChangeWatchers = new ArrayList<>(1);
 
 	public TankManager() {
 		this.tile = null;
@@ -69,6 +71,10 @@ public class TankManager implements ITankManager, ITankUpdateHandler, IStreamabl
 	public TankManager(ILiquidTankTile tile, StandardTank... tanks) {
 		this.tile = tile;
 		addAll(Arrays.asList(tanks));
+		if (tile instanceof TileForestry) {
+			TileForestry tileForestry = (TileForestry) tile;
+			addTankChangeWatcher(tank -> tileForestry.wakeUp());
+		}
 	}
 
 	public final boolean addAll(Collection<? extends StandardTank> collection) {
@@ -88,6 +94,10 @@ public class TankManager implements ITankManager, ITankUpdateHandler, IStreamabl
 		return added;
 	}
 
+	public void addTankChangeWatcher(ITankChangeWatcher watcher) {
+		tankChangeWatchers.add(watcher);
+	}
+
 	@Override
 	public NBTTagCompound writeToNBT(NBTTagCompound data) {
 		NBTTagList tagList = new NBTTagList();
@@ -236,6 +246,10 @@ public class TankManager implements ITankManager, ITankUpdateHandler, IStreamabl
 	}
 
 	private void updateTankLevels(StandardTank tank, boolean sendUpdate) {
+		for (ITankChangeWatcher watcher : tankChangeWatchers) {
+			watcher.onTankChanged(tank);
+		}
+
 		if (!(tile instanceof IRenderableTile)) {
 			return;
 		}
@@ -29,8 +29,12 @@ public class Chromosome implements IChromosome {
 	private final IAllele secondary;
 
 	public static Chromosome create(@Nullable String primarySpeciesUid, @Nullable String secondarySpeciesUid, IChromosomeType chromosomeType, NBTTagCompound nbt) {
-		IAllele primary = AlleleManager.alleleRegistry.getAllele(nbt.getString(UID0_TAG));
-		IAllele secondary = AlleleManager.alleleRegistry.getAllele(nbt.getString(UID1_TAG));
+		return create(primarySpeciesUid, secondarySpeciesUid, chromosomeType, nbt.getString(UID0_TAG), nbt.getString(UID1_TAG));
+	}
+
+	public static Chromosome create(@Nullable String primarySpeciesUid, @Nullable String secondarySpeciesUid, IChromosomeType chromosomeType, String primaryUid, String secondaryUid) {
+		IAllele primary = AlleleManager.alleleRegistry.getAllele(primaryUid);
+		IAllele secondary = AlleleManager.alleleRegistry.getAllele(secondaryUid);
 
 		primary = validateAllele(primarySpeciesUid, chromosomeType, primary);
 		secondary = validateAllele(secondarySpeciesUid, chromosomeType, secondary);
@@ -13,11 +13,16 @@ package forestry.core.genetics;
 import com.google.common.base.MoreObjects;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
+import net.minecraft.nbt.NBTTagString;
+
+import net.minecraftforge.common.util.Constants;
 
 import forestry.api.genetics.IAllele;
 import forestry.api.genetics.IAlleleSpecies;
@@ -25,10 +30,18 @@ import forestry.api.genetics.IChromosome;
 import forestry.api.genetics.IChromosomeType;
 import forestry.api.genetics.IGenome;
 import forestry.api.genetics.ISpeciesRoot;
+import forestry.core.config.Config;
 import forestry.core.utils.Log;
 
 public abstract class Genome implements IGenome {
 	private static final String SLOT_TAG = "Slot";
+	private static final String CHROMOSOMES_TAG = "Chromosomes";
+	/**
+	 * Compact format: the distinct allele uids of the genome and two palette indices (primary, secondary) per chromosome.
+	 */
+	private static final String ALLELES_TAG = "Alleles";
+	private static final String GENES_TAG = "Genes";
+	private static final byte NO_ALLELE = -1;
 
 	private final IChromosome[] chromosomes;
 
@@ -120,14 +133,11 @@ public abstract class Genome implements IGenome {
 			return null;
 		}
 
-		NBTTagList chromosomesNBT = genomeNBT.getTagList("Chromosomes", 10);
-		if (chromosomesNBT.isEmpty()) {
+		Chromosome chromosome = getFirstChromosome(genomeNBT, speciesRoot.getSpeciesChromosomeType());
+		if (chromosome == null) {
 			return null;
 		}
 
-		NBTTagCompound chromosomeNBT = chromosomesNBT.getCompoundTagAt(0);
-		Chromosome chromosome = Chromosome.create(null, null, speciesRoot.getSpeciesChromosomeType(), chromosomeNBT);
-
 		IAllele activeAllele = chromosome.getActiveAllele();
 		if (!(activeAllele instanceof IAlleleSpecies)) {
 			return null;
@@ -151,15 +161,35 @@ public abstract class Genome implements IGenome {
 			return null;
 		}
 
-		NBTTagList chromosomesNBT = genomeNBT.getTagList("Chromosomes", 10);
+		Chromosome chromosome = getFirstChromosome(genomeNBT, chromosomeType);
+		if (chromosome == null) {
+			return null;
+		}
+
+		return active ? chromosome.getActiveAllele() : chromosome.getInactiveAllele();
+	}
+
+	/**
+	 * Reads the first stored chromosome, which is the species chromosome, in either format.
+	 */
+	@Nullable
+	private static Chromosome getFirstChromosome(NBTTagCompound genomeNBT, IChromosomeType chromosomeType) {
+		if (genomeNBT.hasKey(GENES_TAG)) {
+			NBTTagList allelesNBT = genomeNBT.getTagList(ALLELES_TAG, Constants.NBT.TAG_STRING);
+			byte[] genes = genomeNBT.getByteArray(GENES_TAG);
+			if (genes.length < 2 || genes[0] == NO_ALLELE) {
+				return null;
+			}
+			return Chromosome.create(null, null, chromosomeType, getAlleleUid(allelesNBT, genes[0]), getAlleleUid(allelesNBT, genes[1]));
+		}
+
+		NBTTagList chromosomesNBT = genomeNBT.getTagList(CHROMOSOMES_TAG, Constants.NBT.TAG_COMPOUND);
 		if (chromosomesNBT.isEmpty()) {
 			return null;
 		}
 
 		NBTTagCompound chromosomeNBT = chromosomesNBT.getCompoundTagAt(0);
-		Chromosome chromosome = Chromosome.create(null, null, chromosomeType, chromosomeNBT);
-
-		return active ? chromosome.getActiveAllele() : chromosome.getInactiveAllele();
+		return Chromosome.create(null, null, chromosomeType, chromosomeNBT);
 	}
 
 	private static IChromosome getChromosome(ItemStack itemStack, IChromosomeType chromosomeType, ISpeciesRoot speciesRoot) {
@@ -188,7 +218,11 @@ public abstract class Genome implements IGenome {
 
 
 	private static IChromosome[] getChromosomes(NBTTagCompound genomeNBT, ISpeciesRoot speciesRoot) {
-		NBTTagList chromosomesNBT = genomeNBT.getTagList("Chromosomes", 10);
+		if (genomeNBT.hasKey(GENES_TAG)) {
+			return getChromosomesCompact(genomeNBT, speciesRoot);
+		}
+
+		NBTTagList chromosomesNBT = genomeNBT.getTagList(CHROMOSOMES_TAG, Constants.NBT.TAG_COMPOUND);
 		IChromosome[] chromosomes = new IChromosome[speciesRoot.getDefaultTemplate().length];
 
 		String primarySpeciesUid = null;
@@ -212,6 +246,47 @@ public abstract class Genome implements IGenome {
 		return chromosomes;
 	}
 
+	private static IChromosome[] getChromosomesCompact(NBTTagCompound genomeNBT, ISpeciesRoot speciesRoot) {
+		NBTTagList allelesNBT = genomeNBT.getTagList(ALLELES_TAG, Constants.NBT.TAG_STRING);
+		byte[] genes = genomeNBT.getByteArray(GENES_TAG);
+		IChromosomeType[] karyotype = speciesRoot.getKaryotype();
+		IChromosome[] chromosomes = new IChromosome[speciesRoot.getDefaultTemplate().length];
+
+		String primarySpeciesUid = null;
+		String secondarySpeciesUid = null;
+
+		// the species chromosome is read first so that invalid alleles of the other chromosomes can fall back to its template
+		int speciesOrdinal = speciesRoot.getSpeciesChromosomeType().ordinal();
+		Chromosome speciesChromosome = getChromosomeCompact(null, null, karyotype[speciesOrdinal], allelesNBT, genes);
+		if (speciesChromosome != null) {
+			chromosomes[speciesOrdinal] = speciesChromosome;
+			primarySpeciesUid = speciesChromosome.getPrimaryAllele().getUID();
+			secondarySpeciesUid = speciesChromosome.getSecondaryAllele().getUID();
+		}
+
+		for (int i = 0; i < chromosomes.length && i < karyotype.length; i++) {
+			if (i != speciesOrdinal) {
+				chromosomes[i] = getChromosomeCompact(primarySpeciesUid, secondarySpeciesUid, karyotype[i], allelesNBT, genes);
+			}
+		}
+		return chromosomes;
+	}
+
+	@Nullable
+	private static Chromosome getChromosomeCompact(@Nullable String primarySpeciesUid, @Nullable String secondarySpeciesUid, IChromosomeType chromosomeType, NBTTagList allelesNBT, byte[] genes) {
+		int index = chromosomeType.ordinal() * 2;
+		if (index + 1 >= genes.length || genes[index] == NO_ALLELE) {
+			return null;
+		}
+		String primaryUid = getAlleleUid(allelesNBT, genes[index]);
+		String secondaryUid = getAlleleUid(allelesNBT, genes[index + 1]);
+		return Chromosome.create(primarySpeciesUid, secondarySpeciesUid, chromosomeType, primaryUid, secondaryUid);
+	}
+
+	private static String getAlleleUid(NBTTagList allelesNBT, byte paletteIndex) {
+		return allelesNBT.getStringTagAt(paletteIndex & 0xFF);
+	}
+
 	public static IAllele getAllele(ItemStack itemStack, IChromosomeType type, boolean active) {
 		IAllele allele = getSpeciesDirectly(itemStack, type, active);
 		if (allele == null) {
@@ -237,6 +312,10 @@ public abstract class Genome implements IGenome {
 
 	@Override
 	public NBTTagCompound writeToNBT(NBTTagCompound nbttagcompound) {
+		if (Config.compactGenomes) {
+			return writeCompactToNBT(nbttagcompound);
+		}
+
 		NBTTagList nbttaglist = new NBTTagList();
 		for (int i = 0; i < chromosomes.length; i++) {
 			if (chromosomes[i] != null) {
@@ -246,10 +325,43 @@ public abstract class Genome implements IGenome {
 				nbttaglist.appendTag(nbttagcompound1);
 			}
 		}
-		nbttagcompound.setTag("Chromosomes", nbttaglist);
+		nbttagcompound.setTag(CHROMOSOMES_TAG, nbttaglist);
+		return nbttagcompound;
+	}
+
+	private NBTTagCompound writeCompactToNBT(NBTTagCompound nbttagcompound) {
+		List<String> alleleUids = new ArrayList<>();
+		byte[] genes = new byte[chromosomes.length * 2];
+		for (int i = 0; i < chromosomes.length; i++) {
+			IChromosome chromosome = chromosomes[i];
+			if (chromosome == null) {
+				genes[i * 2] = NO_ALLELE;
+				genes[i * 2 + 1] = NO_ALLELE;
+			} else {
+				genes[i * 2] = getPaletteIndex(alleleUids, chromosome.getPrimaryAllele());
+				genes[i * 2 + 1] = getPaletteIndex(alleleUids, chromosome.getSecondaryAllele());
+			}
+		}
+
+		NBTTagList allelesNBT = new NBTTagList();
+		for (String alleleUid : alleleUids) {
+			allelesNBT.appendTag(new NBTTagString(alleleUid));
+		}
+		nbttagcompound.setTag(ALLELES_TAG, allelesNBT);
+		nbttagcompound.setByteArray(GENES_TAG, genes);
 		return nbttagcompound;
 	}
 
+	private static byte getPaletteIndex(List<String> alleleUids, IAllele allele) {
+		String uid = allele.getUID();
+		int index = alleleUids.indexOf(uid);
+		if (index < 0) {
+			index = alleleUids.size();
+			alleleUids.add(uid);
+		}
+		return (byte) index;
+	}
+
 	// / INFORMATION RETRIEVAL
 	@Override
 
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.genetics;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import net.minecraft.nbt.NBTTagCompound;
+
+/**
+ * Caches decoded genomes so that reading the same genome nbt again does not rebuild the chromosomes.
+ * <p>
+ * Lookups first check the nbt compound instance itself, which is held weakly and is only trusted while the content hash
+ * it was cached with still matches. Otherwise the genome is looked up by nbt content.
+ * Genomes are immutable, so the same instance can be handed out to every reader.
+ * <p>
+ * Genomes register the compound they are written to with {@link #put(NBTTagCompound, Genome)}, so an individual that is
+ * written back into its item (for example an aged queen) is found again without decoding.
+ */
+public final class GenomeCache<G extends Genome> {
+	private static final List<GenomeCache<?>> caches = new ArrayList<>();
+
+	private final String name;
+	private final Function<NBTTagCompound, G> decoder;
+	private final Cache<NBTTagCompound, CachedGenome<G>> byInstance = CacheBuilder.newBuilder()
+		.weakKeys()
+		.maximumSize(1024)
+		.build();
+	private final Cache<NBTTagCompound, G> byContent = CacheBuilder.newBuilder()
+		.maximumSize(128)
+		.expireAfterAccess(1, TimeUnit.MINUTES)
+		.build();
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+
+	public GenomeCache(String name, Function<NBTTagCompound, G> decoder) {
+		this.name = name;
+		this.decoder = decoder;
+		synchronized (caches) {
+			caches.add(this);
+		}
+	}
+
+	public static List<GenomeCache<?>> getCaches() {
+		synchronized (caches) {
+			return Collections.unmodifiableList(new ArrayList<>(caches));
+		}
+	}
+
+	public G get(NBTTagCompound genomeNBT) {
+		int hash = genomeNBT.hashCode();
+		CachedGenome<G> cached = byInstance.getIfPresent(genomeNBT);
+		if (cached != null && cached.hash == hash) {
+			hits.incrementAndGet();
+			return cached.genome;
+		}
+
+		G genome = byContent.getIfPresent(genomeNBT);
+		if (genome != null) {
+			hits.incrementAndGet();
+		} else {
+			misses.incrementAndGet();
+			genome = decoder.apply(genomeNBT);
+			byContent.put(genomeNBT.copy(), genome);
+		}
+		byInstance.put(genomeNBT, new CachedGenome<>(hash, genome));
+		return genome;
+	}
+
+	/**
+	 * Remembers that the given compound holds the given genome, called after the genome was written to it.
+	 */
+	public void put(NBTTagCompound genomeNBT, G genome) {
+		byInstance.put(genomeNBT, new CachedGenome<>(genomeNBT.hashCode(), genome));
+	}
+
+	public void clear() {
+		byInstance.invalidateAll();
+		byContent.invalidateAll();
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public long getHitCount() {
+		return hits.get();
+	}
+
+	public long getMissCount() {
+		return misses.get();
+	}
+
+	public long getSize() {
+		return byInstance.size();
+	}
+
+	private static final class CachedGenome<G> {
+		private final int hash;
+		private final G genome;
+
+		private CachedGenome(int hash, G genome) {
+			this.hash = hash;
+			this.genome = genome;
+		}
+	}
+}
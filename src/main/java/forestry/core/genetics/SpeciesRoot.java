@@ -34,6 +34,7 @@ import forestry.api.genetics.IIndividual;
 import forestry.api.genetics.IIndividualTranslator;
 import forestry.api.genetics.IMutation;
 import forestry.api.genetics.ISpeciesRoot;
+import forestry.core.genetics.mutations.MutationIndex;
 
 public abstract class SpeciesRoot implements ISpeciesRoot {
 	/* TRANSLATORS */
@@ -128,63 +129,47 @@ public abstract class SpeciesRoot implements ISpeciesRoot {
 	}
 
 	/* MUTATIONS */
-	@Override
-	public List<IMutation> getCombinations(IAllele other) {
-		List<IMutation> combinations = new ArrayList<>();
-		for (IMutation mutation : getMutations(false)) {
-			if (mutation.isPartner(other)) {
-				combinations.add(mutation);
-			}
+	@Nullable
+	private volatile MutationIndex mutationIndex;
+
+	/**
+	 * Discards the mutation lookup tables, must be called whenever the registered mutations change.
+	 */
+	protected void invalidateMutationIndex() {
+		mutationIndex = null;
+	}
+
+	private MutationIndex getMutationIndex() {
+		MutationIndex index = mutationIndex;
+		if (index == null) {
+			index = new MutationIndex(getMutations(false));
+			mutationIndex = index;
 		}
+		return index;
+	}
 
-		return combinations;
+	@Override
+	public List<IMutation> getCombinations(IAllele other) {
+		return new ArrayList<>(getMutationIndex().getCombinations(other));
 	}
 
 	@Override
 	public List<? extends IMutation> getResultantMutations(IAllele other) {
-		List<IMutation> mutations = new ArrayList<>();
-		int speciesIndex = getSpeciesChromosomeType().ordinal();
-		for (IMutation mutation : getMutations(false)) {
-			IAllele[] template = mutation.getTemplate();
-			if (template == null || template.length <= speciesIndex) {
-				continue;
-			}
-			IAllele speciesAllele = template[speciesIndex];
-			if (speciesAllele == other) {
-				mutations.add(mutation);
-			}
-		}
-
-		return mutations;
+		return getMutationIndex().getResults(other, getSpeciesChromosomeType().ordinal());
 	}
 
 	@Override
 	public List<IMutation> getCombinations(IAlleleSpecies parentSpecies0, IAlleleSpecies parentSpecies1, boolean shuffle) {
-		List<IMutation> combinations = new ArrayList<>();
-
-		String parentSpecies1UID = parentSpecies1.getUID();
-		for (IMutation mutation : getMutations(shuffle)) {
-			if (mutation.isPartner(parentSpecies0)) {
-				IAllele partner = mutation.getPartner(parentSpecies0);
-				if (partner.getUID().equals(parentSpecies1UID)) {
-					combinations.add(mutation);
-				}
-			}
+		List<IMutation> combinations = new ArrayList<>(getMutationIndex().getCombinations(parentSpecies0, parentSpecies1));
+		if (shuffle && combinations.size() > 1) {
+			Collections.shuffle(combinations);
 		}
-
 		return combinations;
 	}
 
 	@Override
 	public Collection<? extends IMutation> getPaths(IAllele result, IChromosomeType chromosomeType) {
-		ArrayList<IMutation> paths = new ArrayList<>();
-		for (IMutation mutation : getMutations(false)) {
-			if (mutation.getTemplate()[chromosomeType.ordinal()] == result) {
-				paths.add(mutation);
-			}
-		}
-
-		return paths;
+		return getMutationIndex().getResults(result, chromosomeType.ordinal());
 	}
 
 	/* GENOME CONVERSIONS */
@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.genetics.mutations;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import forestry.api.genetics.IAllele;
+import forestry.api.genetics.IMutation;
+
+/**
+ * Immutable lookup tables over the registered mutations of a species root.
+ * Built once from the mutation list and discarded by the root whenever a new mutation is registered.
+ */
+public final class MutationIndex {
+	/**
+	 * Mutations keyed by the uid of either parent species.
+	 */
+	private final ImmutableListMultimap<String, IMutation> byPartner;
+	/**
+	 * Mutations keyed by the uid of the first parent and then by the uid of the second parent.
+	 * Every mutation is stored in both directions so the lookup does not depend on parent order.
+	 */
+	private final Map<String, ImmutableListMultimap<String, IMutation>> byPair;
+	/**
+	 * Mutations keyed by the resulting allele, one multimap per chromosome ordinal.
+	 */
+	private final ImmutableList<ImmutableListMultimap<IAllele, IMutation>> byResult;
+
+	public MutationIndex(Collection<? extends IMutation> mutations) {
+		ImmutableListMultimap.Builder<String, IMutation> partnerBuilder = ImmutableListMultimap.builder();
+		Map<String, ImmutableListMultimap.Builder<String, IMutation>> pairBuilders = new HashMap<>();
+		Map<Integer, ImmutableListMultimap.Builder<IAllele, IMutation>> resultBuilders = new HashMap<>();
+		int chromosomeCount = 0;
+
+		for (IMutation mutation : mutations) {
+			String uid0 = mutation.getAllele0().getUID();
+			String uid1 = mutation.getAllele1().getUID();
+
+			partnerBuilder.put(uid0, mutation);
+			pairBuilders.computeIfAbsent(uid0, k -> ImmutableListMultimap.builder()).put(uid1, mutation);
+			if (!uid0.equals(uid1)) {
+				partnerBuilder.put(uid1, mutation);
+				pairBuilders.computeIfAbsent(uid1, k -> ImmutableListMultimap.builder()).put(uid0, mutation);
+			}
+
+			IAllele[] template = mutation.getTemplate();
+			if (template == null) {
+				continue;
+			}
+			for (int i = 0; i < template.length; i++) {
+				IAllele allele = template[i];
+				if (allele != null) {
+					resultBuilders.computeIfAbsent(i, k -> ImmutableListMultimap.builder()).put(allele, mutation);
+				}
+			}
+			chromosomeCount = Math.max(chromosomeCount, template.length);
+		}
+
+		this.byPartner = partnerBuilder.build();
+
+		Map<String, ImmutableListMultimap<String, IMutation>> byPair = new HashMap<>(pairBuilders.size());
+		for (Map.Entry<String, ImmutableListMultimap.Builder<String, IMutation>> entry : pairBuilders.entrySet()) {
+			byPair.put(entry.getKey(), entry.getValue().build());
+		}
+		this.byPair = byPair;
+
+		ImmutableList.Builder<ImmutableListMultimap<IAllele, IMutation>> byResult = ImmutableList.builder();
+		for (int i = 0; i < chromosomeCount; i++) {
+			ImmutableListMultimap.Builder<IAllele, IMutation> builder = resultBuilders.get(i);
+			byResult.add(builder == null ? ImmutableListMultimap.of() : builder.build());
+		}
+		this.byResult = byResult.build();
+	}
+
+	/**
+	 * @return all mutations that have the given allele as one of their parents.
+	 */
+	public ImmutableList<IMutation> getCombinations(IAllele partner) {
+		return byPartner.get(partner.getUID());
+	}
+
+	/**
+	 * @return all mutations that have exactly the two given alleles as parents, in any order.
+	 */
+	public ImmutableList<IMutation> getCombinations(IAllele partner0, IAllele partner1) {
+		ImmutableListMultimap<String, IMutation> partners = byPair.get(partner0.getUID());
+		if (partners == null) {
+			return ImmutableList.of();
+		}
+		return partners.get(partner1.getUID());
+	}
+
+	/**
+	 * @return all mutations whose template contains the given allele at the given chromosome position.
+	 */
+	public ImmutableList<IMutation> getResults(IAllele result, int chromosomeOrdinal) {
+		if (chromosomeOrdinal < 0 || chromosomeOrdinal >= byResult.size()) {
+			return ImmutableList.of();
+		}
+		return byResult.get(chromosomeOrdinal).get(result);
+	}
+}
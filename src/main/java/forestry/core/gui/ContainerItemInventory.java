@@ -25,6 +25,7 @@ public abstract class ContainerItemInventory<I extends ItemInventory> extends Co
 
 	protected ContainerItemInventory(I inventory, InventoryPlayer playerInventory, int xInv, int yInv) {
 		this.inventory = inventory;
+		inventory.deferParentWrites();
 
 		addPlayerInventory(playerInventory, xInv, yInv);
 	}
@@ -59,6 +60,18 @@ public abstract class ContainerItemInventory<I extends ItemInventory> extends Co
 		return result;
 	}
 
+	@Override
+	public void detectAndSendChanges() {
+		inventory.writeChangedSlots();
+		super.detectAndSendChanges();
+	}
+
+	@Override
+	public void onContainerClosed(EntityPlayer player) {
+		super.onContainerClosed(player);
+		inventory.writeChangedSlots();
+	}
+
 	public I getItemInventory() {
 		return inventory;
 	}
@@ -27,6 +27,7 @@ import forestry.core.network.packets.PacketErrorUpdate;
 import forestry.core.network.packets.PacketGuiEnergy;
 import forestry.core.network.packets.PacketGuiUpdate;
 import forestry.core.tiles.IPowerHandler;
+import forestry.core.tiles.TileForestry;
 import forestry.core.tiles.TilePowered;
 import forestry.core.tiles.TileUtil;
 import forestry.energy.EnergyManager;
@@ -64,6 +65,11 @@ public abstract class ContainerTile<T extends TileEntity> extends ContainerFores
 	public void detectAndSendChanges() {
 		super.detectAndSendChanges();
 
+		// keep the tile awake while a player is looking at it, changes to ghost slots do not reach the tile
+		if (tile instanceof TileForestry) {
+			((TileForestry) tile).wakeUp();
+		}
+
 		if (tile instanceof IErrorLogicSource) {
 			IErrorLogicSource errorLogicSource = (IErrorLogicSource) tile;
 			ImmutableSet<IErrorState> errorStates = errorLogicSource.getErrorLogic().getErrorStates();
@@ -12,6 +12,8 @@ package forestry.core.inventory;
 
 import javax.annotation.Nullable;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.inventory.IInventory;
@@ -22,6 +24,7 @@ import net.minecraft.util.text.ITextComponent;
 import net.minecraft.util.text.TextComponentString;
 
 import forestry.core.config.Constants;
+import forestry.core.inventory.watchers.ISlotChangeWatcher;
 import forestry.core.network.IStreamable;
 import forestry.core.network.PacketBufferForestry;
 import forestry.core.utils.InventoryUtil;
@@ -35,6 +38,7 @@ public class InventoryAdapter implements IInventoryAdapter, IStreamable {
 	private boolean allowAutomation = true;
 	@Nullable
 	private int[] slotMap;
+	private final List<ISlotChangeWatcher> slotChangeWatchers = new ArrayList<>(1);
 
 	//private boolean debug = false;
 
@@ -61,6 +65,20 @@ public class InventoryAdapter implements IInventoryAdapter, IStreamable {
 	//		return this;
 	//	}
 
+	/**
+	 * The watcher is told about every slot that is set or decreased through this adapter.
+	 * Changes that are only reported by markDirty or by loading are passed as {@link ISlotChangeWatcher#ALL_SLOTS}.
+	 */
+	public void addSlotChangeWatcher(ISlotChangeWatcher watcher) {
+		slotChangeWatchers.add(watcher);
+	}
+
+	public void onSlotChanged(int slotIndex) {
+		for (ISlotChangeWatcher watcher : slotChangeWatchers) {
+			watcher.onSlotChanged(this, slotIndex);
+		}
+	}
+
 	/**
 	 * @return Copy of this inventory. Stacks are copies.
 	 */
@@ -94,12 +112,17 @@ public class InventoryAdapter implements IInventoryAdapter, IStreamable {
 
 	@Override
 	public ItemStack decrStackSize(int slotId, int count) {
-		return inventory.decrStackSize(slotId, count);
+		ItemStack removed = inventory.decrStackSize(slotId, count);
+		if (!removed.isEmpty()) {
+			onSlotChanged(slotId);
+		}
+		return removed;
 	}
 
 	@Override
 	public void setInventorySlotContents(int slotId, ItemStack itemstack) {
 		inventory.setInventorySlotContents(slotId, itemstack);
+		onSlotChanged(slotId);
 	}
 
 	@Override
@@ -115,11 +138,14 @@ public class InventoryAdapter implements IInventoryAdapter, IStreamable {
 	@Override
 	public void markDirty() {
 		inventory.markDirty();
+		onSlotChanged(ISlotChangeWatcher.ALL_SLOTS);
 	}
 
 	@Override
 	public ItemStack removeStackFromSlot(int slotIndex) {
-		return inventory.removeStackFromSlot(slotIndex);
+		ItemStack removed = inventory.removeStackFromSlot(slotIndex);
+		onSlotChanged(slotIndex);
+		return removed;
 	}
 
 	@Override
@@ -191,6 +217,7 @@ public class InventoryAdapter implements IInventoryAdapter, IStreamable {
 	@Override
 	public void readFromNBT(NBTTagCompound nbttagcompound) {
 		InventoryUtil.readFromNBT(this, nbttagcompound);
+		onSlotChanged(ISlotChangeWatcher.ALL_SLOTS);
 	}
 
 	@Override
@@ -207,6 +234,7 @@ public class InventoryAdapter implements IInventoryAdapter, IStreamable {
 	@Override
 	public void readData(PacketBufferForestry data) throws IOException {
 		data.readInventory(inventory);
+		onSlotChanged(ISlotChangeWatcher.ALL_SLOTS);
 	}
 
 	/* FIELDS */
@@ -13,6 +13,7 @@ package forestry.core.inventory;
 import com.google.common.base.Preconditions;
 
 import javax.annotation.Nullable;
+import java.util.BitSet;
 import java.util.Random;
 
 import net.minecraft.entity.player.EntityPlayer;
@@ -38,6 +39,13 @@ public abstract class ItemInventory implements IInventory, IFilterSlotDelegate,
 	private static final String KEY_SLOTS = "Slots";
 	private static final String KEY_UID = "UID";
 	private static final Random rand = new Random();
+	private static final String[] SLOT_KEYS = new String[128];
+
+	static {
+		for (int i = 0; i < SLOT_KEYS.length; i++) {
+			SLOT_KEYS[i] = Integer.toString(i, Character.MAX_RADIX);
+		}
+	}
 
 	private final IItemHandler itemHandler = new InvWrapper(this);
 
@@ -45,6 +53,18 @@ public abstract class ItemInventory implements IInventory, IFilterSlotDelegate,
 	private final ItemStack parent;
 	private final NonNullList<ItemStack> inventoryStacks;
 
+	/**
+	 * The slots that were set since the parent nbt was written, if the writes are deferred.
+	 */
+	@Nullable
+	private BitSet dirtySlots;
+	/**
+	 * Copies of the stacks the parent nbt holds, to find the slots that were changed in place, if the writes are deferred.
+	 */
+	@Nullable
+	private ItemStack[] writtenStacks;
+	private boolean contentsChanged;
+
 	public ItemInventory(EntityPlayer player, int size, ItemStack parent) {
 		Preconditions.checkArgument(!parent.isEmpty(), "Parent cannot be empty.");
 
@@ -138,7 +158,54 @@ public abstract class ItemInventory implements IInventory, IFilterSlotDelegate,
 		return baseUID == comparisonUID;
 	}
 
-	private void writeToParentNBT() {
+	/**
+	 * Collects the changes of the inventory and writes them to the parent item only when
+	 * {@link #writeChangedSlots()} is called, instead of on every change.
+	 * Used by containers, which write the changes once per tick and when they are closed.
+	 */
+	public void deferParentWrites() {
+		if (dirtySlots != null) {
+			return;
+		}
+		int size = getSizeInventory();
+		dirtySlots = new BitSet(size);
+		writtenStacks = new ItemStack[size];
+		for (int i = 0; i < size; i++) {
+			writtenStacks[i] = getStackInSlot(i).copy();
+		}
+	}
+
+	/**
+	 * Writes the slots that changed since the last write to the parent item, if the writes are deferred.
+	 */
+	public void writeChangedSlots() {
+		if (dirtySlots == null || writtenStacks == null) {
+			return;
+		}
+		if (!contentsChanged && dirtySlots.isEmpty()) {
+			return;
+		}
+
+		NBTTagCompound nbt = getParentNBT();
+		if (!nbt.hasKey(KEY_SLOTS)) {
+			writeToParentNBT();
+		} else {
+			NBTTagCompound slotsNbt = nbt.getCompoundTag(KEY_SLOTS);
+			for (int i = 0; i < writtenStacks.length; i++) {
+				ItemStack itemStack = getStackInSlot(i);
+				if (dirtySlots.get(i) || contentsChanged && !ItemStack.areItemStacksEqual(writtenStacks[i], itemStack)) {
+					writeSlotNBT(slotsNbt, i, itemStack);
+					writtenStacks[i] = itemStack.copy();
+				}
+			}
+			onWriteNBT(nbt);
+		}
+
+		dirtySlots.clear();
+		contentsChanged = false;
+	}
+
+	private NBTTagCompound getParentNBT() {
 		ItemStack parent = getParent();
 
 		NBTTagCompound nbt = parent.getTagCompound();
@@ -146,6 +213,11 @@ public abstract class ItemInventory implements IInventory, IFilterSlotDelegate,
 			nbt = new NBTTagCompound();
 			parent.setTagCompound(nbt);
 		}
+		return nbt;
+	}
+
+	private void writeToParentNBT() {
+		NBTTagCompound nbt = getParentNBT();
 
 		NBTTagCompound slotsNbt = new NBTTagCompound();
 		for (int i = 0; i < getSizeInventory(); i++) {
@@ -156,13 +228,32 @@ public abstract class ItemInventory implements IInventory, IFilterSlotDelegate,
 				itemStack.writeToNBT(itemNbt);
 				slotsNbt.setTag(slotKey, itemNbt);
 			}
+			if (writtenStacks != null && i < writtenStacks.length) {
+				writtenStacks[i] = itemStack.copy();
+			}
 		}
 
 		nbt.setTag(KEY_SLOTS, slotsNbt);
 		onWriteNBT(nbt);
 	}
 
+	private static void writeSlotNBT(NBTTagCompound slotsNbt, int index, ItemStack itemStack) {
+		String slotKey = getSlotNBTKey(index);
+
+		if (itemStack.isEmpty()) {
+			slotsNbt.removeTag(slotKey);
+		} else {
+			NBTTagCompound itemNbt = new NBTTagCompound();
+			itemStack.writeToNBT(itemNbt);
+
+			slotsNbt.setTag(slotKey, itemNbt);
+		}
+	}
+
 	private static String getSlotNBTKey(int i) {
+		if (i < SLOT_KEYS.length) {
+			return SLOT_KEYS[i];
+		}
 		return Integer.toString(i, Character.MAX_RADIX);
 	}
 
@@ -189,7 +280,11 @@ public abstract class ItemInventory implements IInventory, IFilterSlotDelegate,
 		ItemStack itemstack = ItemStackHelper.getAndSplit(this.inventoryStacks, index, count);
 
 		if (!itemstack.isEmpty()) {
-			this.markDirty();
+			if (dirtySlots != null) {
+				dirtySlots.set(index);
+			} else {
+				this.markDirty();
+			}
 		}
 
 		return itemstack;
@@ -199,14 +294,13 @@ public abstract class ItemInventory implements IInventory, IFilterSlotDelegate,
 	public void setInventorySlotContents(int index, ItemStack itemstack) {
 		inventoryStacks.set(index, itemstack);
 
-		ItemStack parent = getParent();
-
-		NBTTagCompound nbt = parent.getTagCompound();
-		if (nbt == null) {
-			nbt = new NBTTagCompound();
-			parent.setTagCompound(nbt);
+		if (dirtySlots != null) {
+			dirtySlots.set(index);
+			return;
 		}
 
+		NBTTagCompound nbt = getParentNBT();
+
 		NBTTagCompound slotNbt;
 		if (!nbt.hasKey(KEY_SLOTS)) {
 			slotNbt = new NBTTagCompound();
@@ -215,16 +309,7 @@ public abstract class ItemInventory implements IInventory, IFilterSlotDelegate,
 			slotNbt = nbt.getCompoundTag(KEY_SLOTS);
 		}
 
-		String slotKey = getSlotNBTKey(index);
-
-		if (itemstack.isEmpty()) {
-			slotNbt.removeTag(slotKey);
-		} else {
-			NBTTagCompound itemNbt = new NBTTagCompound();
-			itemstack.writeToNBT(itemNbt);
-
-			slotNbt.setTag(slotKey, itemNbt);
-		}
+		writeSlotNBT(slotNbt, index, itemstack);
 	}
 
 	@Override
@@ -254,7 +339,11 @@ public abstract class ItemInventory implements IInventory, IFilterSlotDelegate,
 
 	@Override
 	public final void markDirty() {
-		writeToParentNBT();
+		if (dirtySlots != null) {
+			contentsChanged = true;
+		} else {
+			writeToParentNBT();
+		}
 	}
 
 	@Override
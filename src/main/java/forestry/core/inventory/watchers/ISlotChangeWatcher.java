@@ -13,5 +13,10 @@ package forestry.core.inventory.watchers;
 import net.minecraft.inventory.IInventory;
 
 public interface ISlotChangeWatcher {
+	/**
+	 * Passed as slot when the changed slot is not known, for example after markDirty or after loading.
+	 */
+	int ALL_SLOTS = -1;
+
 	void onSlotChanged(IInventory inventory, int slot);
 }
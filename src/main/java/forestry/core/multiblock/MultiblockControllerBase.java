@@ -1,6 +1,7 @@
 package forestry.core.multiblock;
 
 import javax.annotation.Nullable;
+import java.util.ArrayDeque;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -78,6 +79,13 @@ public abstract class MultiblockControllerBase implements IMultiblockControllerI
 	 */
 	private boolean shouldCheckForDisconnections;
 
+	/**
+	 * Coordinates of the parts removed by {@link #detachBlock} since the last disconnection check.
+	 * As long as no full check is needed, only the neighborhood of these coordinates is searched.
+	 */
+	private final Set<BlockPos> removedPartCoords = new HashSet<>();
+	private boolean needsFullDisconnectionCheck;
+
 	/**
 	 * Set whenever we validate the multiblock
 	 */
@@ -95,6 +103,7 @@ public abstract class MultiblockControllerBase implements IMultiblockControllerI
 		this.maximumCoord = null;
 
 		this.shouldCheckForDisconnections = true;
+		this.needsFullDisconnectionCheck = true;
 		this.lastValidationException = null;
 	}
 
@@ -250,6 +259,7 @@ public abstract class MultiblockControllerBase implements IMultiblockControllerI
 
 		// Strip out this part
 		onDetachBlock(part);
+		removedPartCoords.add(part.getCoordinates());
 		if (!connectedParts.remove(part)) {
 			BlockPos partCoords = part.getCoordinates();
 			Log.warning("[%s] Double-removing part (%d) @ %d, %d, %d, this is unexpected and may cause problems. " +
@@ -403,6 +413,8 @@ public abstract class MultiblockControllerBase implements IMultiblockControllerI
 		}
 
 		connectedParts.clear();
+		removedPartCoords.clear();
+		needsFullDisconnectionCheck = true;
 	}
 
 	/**
@@ -711,6 +723,12 @@ public abstract class MultiblockControllerBase implements IMultiblockControllerI
 			return Collections.emptySet();
 		}
 
+		if (!needsFullDisconnectionCheck && areRemovedPartNeighborsConnected()) {
+			removedPartCoords.clear();
+			shouldCheckForDisconnections = false;
+			return Collections.emptySet();
+		}
+
 		IChunkProvider chunkProvider = world.getChunkProvider();
 
 		// Invalidate our reference coord, we'll recalculate it shortly
@@ -816,10 +834,60 @@ public abstract class MultiblockControllerBase implements IMultiblockControllerI
 
 		// We've run the checks from here on out.
 		shouldCheckForDisconnections = false;
+		needsFullDisconnectionCheck = false;
+		removedPartCoords.clear();
 
 		return removedParts;
 	}
 
+	/**
+	 * Removing parts can only split the machine between the remaining parts that touched the removed ones.
+	 * Searches outward from one of those parts until it has reached all the others, which usually happens long before
+	 * the whole machine was visited.
+	 *
+	 * @return true if the remaining parts next to the removed parts are still connected to each other.
+	 */
+	private boolean areRemovedPartNeighborsConnected() {
+		Set<IMultiblockComponent> borderParts = new HashSet<>();
+		for (BlockPos removedCoord : removedPartCoords) {
+			for (IMultiblockComponent neighborPart : MultiblockUtil.getNeighboringParts(world, removedCoord)) {
+				MultiblockLogic neighborLogic = (MultiblockLogic) neighborPart.getMultiblockLogic();
+				if (neighborLogic.getController() == this) {
+					borderParts.add(neighborPart);
+				}
+			}
+		}
+
+		if (borderParts.size() <= 1) {
+			return true;
+		}
+
+		IMultiblockComponent startPart = borderParts.iterator().next();
+		int remainingBorderParts = borderParts.size() - 1;
+		Set<IMultiblockComponent> visitedParts = new HashSet<>();
+		visitedParts.add(startPart);
+		ArrayDeque<IMultiblockComponent> partsToCheck = new ArrayDeque<>();
+		partsToCheck.add(startPart);
+
+		while (!partsToCheck.isEmpty()) {
+			IMultiblockComponent part = partsToCheck.poll();
+			for (IMultiblockComponent nearbyPart : MultiblockUtil.getNeighboringParts(world, part)) {
+				MultiblockLogic nearbyPartLogic = (MultiblockLogic) nearbyPart.getMultiblockLogic();
+				if (nearbyPartLogic.getController() != this || !visitedParts.add(nearbyPart)) {
+					continue;
+				}
+				if (borderParts.contains(nearbyPart)) {
+					remainingBorderParts--;
+					if (remainingBorderParts <= 0) {
+						return true;
+					}
+				}
+				partsToCheck.add(nearbyPart);
+			}
+		}
+		return false;
+	}
+
 	@Override
 
 	public Set<IMultiblockComponent> detachAllBlocks() {
@@ -833,6 +901,8 @@ public abstract class MultiblockControllerBase implements IMultiblockControllerI
 
 		Set<IMultiblockComponent> detachedParts = connectedParts;
 		connectedParts = new HashSet<>();
+		removedPartCoords.clear();
+		needsFullDisconnectionCheck = true;
 		return detachedParts;
 	}
 
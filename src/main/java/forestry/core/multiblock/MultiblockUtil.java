@@ -36,8 +36,14 @@ public class MultiblockUtil {
 	 * @return An array of references to neighboring IMultiblockComponent tile entities.
 	 */
 	public static List<IMultiblockComponent> getNeighboringParts(World world, IMultiblockComponent part) {
-		BlockPos partCoord = part.getCoordinates();
+		return getNeighboringParts(world, part.getCoordinates());
+	}
 
+	/**
+	 * Returns the IMultiblockComponent tile entities next to the given coordinate, which does not have to hold a part itself.
+	 * Chunk-safe on the server like {@link #getNeighboringParts(World, IMultiblockComponent)}.
+	 */
+	public static List<IMultiblockComponent> getNeighboringParts(World world, BlockPos partCoord) {
 		List<BlockPos> neighbors = new ArrayList<>(EnumFacing.values().length);
 		for (EnumFacing facing : EnumFacing.values()) {
 			BlockPos neighborCoord = new BlockPos(partCoord);
@@ -5,8 +5,11 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.math.BlockPos;
@@ -27,6 +30,12 @@ import forestry.core.utils.Log;
  * @author Erogenous Beef
  */
 public class MultiblockWorldRegistry {
+	/**
+	 * Time per tick that may be spent on attaching orphaned parts and on checking dirty controllers.
+	 * Whatever is left over waits for the next tick, so loading many chunks at once does not stall a single tick.
+	 */
+	private static final long PROCESSING_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
 	private final World world;
 
 	private final Set<IMultiblockControllerInternal> controllers;        // Active controllers
@@ -92,9 +101,10 @@ public class MultiblockWorldRegistry {
 	public void processMultiblockChanges() {
 		IChunkProvider chunkProvider = world.getChunkProvider();
 		BlockPos coord;
+		long deadline = System.nanoTime() + PROCESSING_BUDGET_NANOS;
 
 		// Merge pools - sets of adjacent machines which should be merged later on in processing
-		List<Set<IMultiblockControllerInternal>> mergePools = null;
+		MergePools mergePools = null;
 		if (!orphanedParts.isEmpty()) {
 			Set<IMultiblockComponent> orphansToProcess = null;
 
@@ -114,7 +124,10 @@ public class MultiblockWorldRegistry {
 
 				// Process orphaned blocks
 				// These are blocks that exist in a valid chunk and require a controller
-				for (IMultiblockComponent orphan : orphansToProcess) {
+				Iterator<IMultiblockComponent> orphanIterator = orphansToProcess.iterator();
+				while (orphanIterator.hasNext()) {
+					IMultiblockComponent orphan = orphanIterator.next();
+					orphanIterator.remove();
 					coord = orphan.getCoordinates();
 					if (chunkProvider.getLoadedChunk(coord.getX() >> 4, coord.getZ() >> 4) == null) {
 						continue;
@@ -142,48 +155,33 @@ public class MultiblockWorldRegistry {
 						this.controllers.add(newController);
 					} else if (compatibleControllers.size() > 1) {
 						if (mergePools == null) {
-							mergePools = new ArrayList<>();
+							mergePools = new MergePools();
 						}
 
 						// THIS IS THE ONLY PLACE WHERE MERGES ARE DETECTED
 						// Multiple compatible controllers indicates an impending merge.
-						// Locate the appropriate merge pool(s)
-						List<Set<IMultiblockControllerInternal>> candidatePools = new ArrayList<>();
-						for (Set<IMultiblockControllerInternal> candidatePool : mergePools) {
-							if (!Collections.disjoint(candidatePool, compatibleControllers)) {
-								// They share at least one element, so that means they will all touch after the merge
-								candidatePools.add(candidatePool);
-							}
-						}
+						// They all touch this part, so they end up in the same merge pool.
+						mergePools.union(compatibleControllers);
+					}
 
-						if (candidatePools.size() <= 0) {
-							// No pools nearby, create a new merge pool
-							mergePools.add(compatibleControllers);
-						} else if (candidatePools.size() == 1) {
-							// Only one pool nearby, simply add to that one
-							candidatePools.get(0).addAll(compatibleControllers);
-						} else {
-							// Multiple pools- merge into one, then add the compatible controllers
-							Set<IMultiblockControllerInternal> masterPool = candidatePools.get(0);
-							Set<IMultiblockControllerInternal> consumedPool;
-							for (int i = 1; i < candidatePools.size(); i++) {
-								consumedPool = candidatePools.get(i);
-								masterPool.addAll(consumedPool);
-								mergePools.remove(consumedPool);
-							}
-							masterPool.addAll(compatibleControllers);
-						}
+					if (System.nanoTime() > deadline) {
+						break;
 					}
 				}
+
+				// Out of time, the remaining orphans are processed in the next tick
+				if (!orphansToProcess.isEmpty()) {
+					addAllOrphanedPartsThreadsafe(orphansToProcess);
+				}
 			}
 		}
 
-		if (mergePools != null && !mergePools.isEmpty()) {
+		if (mergePools != null) {
 			// Process merges - any machines that have been marked for merge should be merged
 			// into the "master" machine.
 			// To do this, we combine lists of machines that are touching one another and therefore
 			// should voltron the fuck up.
-			for (Set<IMultiblockControllerInternal> mergePool : mergePools) {
+			for (Set<IMultiblockControllerInternal> mergePool : mergePools.getPools()) {
 				// Search for the new master machine, which will take over all the blocks contained in the other machines
 				IMultiblockControllerInternal newMaster = null;
 				for (IMultiblockControllerInternal controller : mergePool) {
@@ -212,7 +210,10 @@ public class MultiblockWorldRegistry {
 		// Any controllers which have had parts removed must be checked to see if some parts are no longer
 		// physically connected to their master.
 		if (!dirtyControllers.isEmpty()) {
-			for (IMultiblockControllerInternal controller : dirtyControllers) {
+			Iterator<IMultiblockControllerInternal> dirtyIterator = dirtyControllers.iterator();
+			while (dirtyIterator.hasNext()) {
+				IMultiblockControllerInternal controller = dirtyIterator.next();
+				dirtyIterator.remove();
 				if (controller == null) {
 					continue;
 				}
@@ -233,9 +234,12 @@ public class MultiblockWorldRegistry {
 					// Controller has shed some parts - add them to the detached list for delayed processing
 					detachedParts.addAll(newlyDetachedParts);
 				}
-			}
 
-			dirtyControllers.clear();
+				// Out of time, the remaining controllers stay dirty until the next tick
+				if (System.nanoTime() > deadline) {
+					break;
+				}
+			}
 		}
 
 		// Unregister dead controllers
@@ -449,4 +453,52 @@ public class MultiblockWorldRegistry {
 			orphanedParts.addAll(parts);
 		}
 	}
+
+	/**
+	 * Union-find over the controllers that have to be merged, so joining two pools does not require searching through
+	 * all the other pools.
+	 */
+	private static class MergePools {
+		private final Map<IMultiblockControllerInternal, IMultiblockControllerInternal> parents = new HashMap<>();
+
+		public void union(Collection<IMultiblockControllerInternal> controllers) {
+			IMultiblockControllerInternal root = null;
+			for (IMultiblockControllerInternal controller : controllers) {
+				IMultiblockControllerInternal controllerRoot = find(controller);
+				if (root == null) {
+					root = controllerRoot;
+				} else if (controllerRoot != root) {
+					parents.put(controllerRoot, root);
+				}
+			}
+		}
+
+		private IMultiblockControllerInternal find(IMultiblockControllerInternal controller) {
+			IMultiblockControllerInternal root = controller;
+			IMultiblockControllerInternal parent;
+			while ((parent = parents.get(root)) != null) {
+				root = parent;
+			}
+
+			// Point everything on the way directly at the root
+			IMultiblockControllerInternal current = controller;
+			while (current != root) {
+				IMultiblockControllerInternal next = parents.get(current);
+				parents.put(current, root);
+				current = next;
+			}
+			return root;
+		}
+
+		public Collection<Set<IMultiblockControllerInternal>> getPools() {
+			Map<IMultiblockControllerInternal, Set<IMultiblockControllerInternal>> pools = new HashMap<>();
+			for (IMultiblockControllerInternal controller : new ArrayList<>(parents.keySet())) {
+				IMultiblockControllerInternal root = find(controller);
+				Set<IMultiblockControllerInternal> pool = pools.computeIfAbsent(root, k -> new HashSet<>());
+				pool.add(root);
+				pool.add(controller);
+			}
+			return pools.values();
+		}
+	}
 }
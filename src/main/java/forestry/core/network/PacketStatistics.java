@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.network;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts how many Forestry packets of each id are sent and how many bytes they take.
+ * A packet that is broadcast to several players is written once, but counted once for every player it is sent to.
+ */
+public final class PacketStatistics {
+	private static final Map<IPacketId, Entry> entries = new ConcurrentHashMap<>();
+
+	private PacketStatistics() {
+	}
+
+	public static void onPacketSent(IPacketId packetId, int bytes, int recipients) {
+		if (recipients <= 0) {
+			return;
+		}
+		Entry entry = entries.computeIfAbsent(packetId, Entry::new);
+		entry.packets.add(recipients);
+		entry.bytes.add((long) bytes * recipients);
+	}
+
+	/**
+	 * @return the statistics of all packet ids that were sent at least once, largest byte count first.
+	 */
+	public static List<Entry> getEntries() {
+		List<Entry> sorted = new ArrayList<>(entries.values());
+		sorted.sort(Comparator.comparingLong(Entry::getBytes).reversed());
+		return sorted;
+	}
+
+	public static void reset() {
+		entries.clear();
+	}
+
+	public static final class Entry {
+		private final IPacketId packetId;
+		private final LongAdder packets = new LongAdder();
+		private final LongAdder bytes = new LongAdder();
+
+		private Entry(IPacketId packetId) {
+			this.packetId = packetId;
+		}
+
+		public IPacketId getPacketId() {
+			return packetId;
+		}
+
+		public long getPackets() {
+			return packets.sum();
+		}
+
+		public long getBytes() {
+			return bytes.sum();
+		}
+	}
+}
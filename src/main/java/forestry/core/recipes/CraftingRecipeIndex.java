@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.recipes;
+
+import com.google.common.collect.ImmutableSet;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import net.minecraft.inventory.InventoryCrafting;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.IRecipe;
+import net.minecraft.item.crafting.Ingredient;
+import net.minecraft.item.crafting.ShapedRecipes;
+import net.minecraft.item.crafting.ShapelessRecipes;
+import net.minecraft.world.World;
+
+import net.minecraftforge.common.crafting.IngredientNBT;
+import net.minecraftforge.oredict.OreIngredient;
+import net.minecraftforge.oredict.ShapedOreRecipe;
+import net.minecraftforge.oredict.ShapelessOreRecipe;
+
+import net.minecraftforge.fml.common.registry.ForgeRegistries;
+
+/**
+ * Prefilter for the vanilla crafting recipes, used by the worktable.
+ * <p>
+ * Every recipe has a bit in a set per item that one of its ingredients accepts. The candidates for a crafting grid are
+ * the intersection of the sets of all occupied slots, and only those are tested with {@link IRecipe#matches}.
+ * Only the standard shaped and shapeless recipes with standard ingredients are indexed, because their ingredients list
+ * everything they accept. All other recipes are candidates for every grid.
+ * <p>
+ * The index is rebuilt when the number of registered recipes changes or after {@link #invalidate()}, which is called
+ * whenever a server starts.
+ */
+public final class CraftingRecipeIndex {
+	private static final Set<Class<?>> INDEXED_RECIPE_CLASSES = ImmutableSet.of(ShapedRecipes.class, ShapelessRecipes.class, ShapedOreRecipe.class, ShapelessOreRecipe.class);
+	private static final Set<Class<?>> INDEXED_INGREDIENT_CLASSES = ImmutableSet.of(Ingredient.class, OreIngredient.class, IngredientNBT.class);
+
+	@Nullable
+	private static volatile CraftingRecipeIndex instance;
+
+	private final int recipeCount;
+	private final List<IRecipe> recipes = new ArrayList<>();
+	private final Map<Item, BitSet> recipesByItem = new HashMap<>();
+	/**
+	 * Recipes that are not indexed and have to be tested for every grid.
+	 */
+	private final BitSet unindexed = new BitSet();
+
+	private CraftingRecipeIndex() {
+		recipes.addAll(ForgeRegistries.RECIPES.getValuesCollection());
+		recipeCount = recipes.size();
+		for (int i = 0; i < recipes.size(); i++) {
+			IRecipe recipe = recipes.get(i);
+			if (!addRecipe(i, recipe)) {
+				unindexed.set(i);
+			}
+		}
+	}
+
+	private boolean addRecipe(int index, IRecipe recipe) {
+		if (!INDEXED_RECIPE_CLASSES.contains(recipe.getClass())) {
+			return false;
+		}
+		List<Item> items = new ArrayList<>();
+		for (Ingredient ingredient : recipe.getIngredients()) {
+			if (ingredient == Ingredient.EMPTY) {
+				continue;
+			}
+			if (!INDEXED_INGREDIENT_CLASSES.contains(ingredient.getClass())) {
+				return false;
+			}
+			for (ItemStack stack : ingredient.getMatchingStacks()) {
+				if (!stack.isEmpty()) {
+					items.add(stack.getItem());
+				}
+			}
+		}
+		for (Item item : items) {
+			recipesByItem.computeIfAbsent(item, k -> new BitSet()).set(index);
+		}
+		return true;
+	}
+
+	public static void invalidate() {
+		instance = null;
+	}
+
+	private static CraftingRecipeIndex getInstance() {
+		CraftingRecipeIndex index = instance;
+		if (index == null || index.recipeCount != ForgeRegistries.RECIPES.getValuesCollection().size()) {
+			index = new CraftingRecipeIndex();
+			instance = index;
+		}
+		return index;
+	}
+
+	/**
+	 * @return all registered recipes that match the grid, in registry order.
+	 */
+	public static List<IRecipe> findMatchingRecipes(InventoryCrafting inventory, World world) {
+		CraftingRecipeIndex index = getInstance();
+		BitSet candidates = index.getCandidates(inventory);
+		List<IRecipe> matchingRecipes = new ArrayList<>();
+		for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+			IRecipe recipe = index.recipes.get(i);
+			if (recipe.matches(inventory, world)) {
+				matchingRecipes.add(recipe);
+			}
+		}
+		return matchingRecipes;
+	}
+
+	private BitSet getCandidates(InventoryCrafting inventory) {
+		BitSet candidates = null;
+		Set<Item> checkedItems = new HashSet<>();
+		for (int slot = 0; slot < inventory.getSizeInventory(); slot++) {
+			ItemStack stack = inventory.getStackInSlot(slot);
+			if (stack.isEmpty() || !checkedItems.add(stack.getItem())) {
+				continue;
+			}
+			BitSet itemRecipes = recipesByItem.get(stack.getItem());
+			if (candidates == null) {
+				candidates = itemRecipes == null ? new BitSet() : (BitSet) itemRecipes.clone();
+			} else if (itemRecipes == null) {
+				candidates.clear();
+			} else {
+				candidates.and(itemRecipes);
+			}
+		}
+
+		if (candidates == null) {
+			// an empty grid, nothing is filtered
+			candidates = new BitSet(recipes.size());
+			candidates.set(0, recipes.size());
+		} else {
+			candidates.or(unindexed);
+		}
+		return candidates;
+	}
+}
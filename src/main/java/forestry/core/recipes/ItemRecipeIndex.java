@@ -0,0 +1,202 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.recipes;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+
+import net.minecraftforge.oredict.OreDictionary;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+
+/**
+ * Lookup table from input items to the recipes that may accept them, so machines do not have to test every registered
+ * recipe of a recipe manager.
+ * <p>
+ * Recipes are bucketed by the item and meta of their inputs. Recipes with a wildcard meta are added to every meta of
+ * their item and recipes without an input stack (ore dictionary inputs for example) are added to every bucket.
+ * Candidates keep the iteration order of the recipe collection and still have to be confirmed with the matching check of
+ * the recipe manager, which also takes care of nbt-sensitive inputs.
+ * <p>
+ * The table is built on first use and dropped by {@link #invalidate()} whenever a recipe is added or removed.
+ */
+public final class ItemRecipeIndex<R> {
+	private static final int MAX_MISSES = 4096;
+
+	private final Collection<R> recipes;
+	private final Function<R, Collection<ItemStack>> inputs;
+	@Nullable
+	private volatile Table<R> table;
+
+	/**
+	 * @param recipes the live recipe collection of the recipe manager.
+	 * @param inputs  the input stacks a recipe is indexed with. Recipes without a non-empty input are candidates for
+	 *                every item.
+	 */
+	public ItemRecipeIndex(Collection<R> recipes, Function<R, Collection<ItemStack>> inputs) {
+		this.recipes = recipes;
+		this.inputs = inputs;
+	}
+
+	public void invalidate() {
+		table = null;
+	}
+
+	/**
+	 * @return the recipes that may accept the given stack. For an empty stack only the recipes without an input stack
+	 * are returned.
+	 */
+	public List<R> getCandidates(ItemStack stack) {
+		return getTable().getCandidates(stack);
+	}
+
+	/**
+	 * A negative cache for lookups that only depend on the stack itself.
+	 *
+	 * @return true if the stack was passed to {@link #markMiss(ItemStack)} since the recipes last changed.
+	 */
+	public boolean isKnownMiss(ItemStack stack) {
+		return !stack.isEmpty() && !stack.hasTagCompound() && getTable().misses.contains(getMissKey(stack));
+	}
+
+	/**
+	 * Remembers that no recipe accepts the given stack. Stacks with nbt are not remembered.
+	 */
+	public void markMiss(ItemStack stack) {
+		if (stack.isEmpty() || stack.hasTagCompound()) {
+			return;
+		}
+		Set<Long> misses = getTable().misses;
+		if (misses.size() >= MAX_MISSES) {
+			misses.clear();
+		}
+		misses.add(getMissKey(stack));
+	}
+
+	private static long getMissKey(ItemStack stack) {
+		return ((long) Item.getIdFromItem(stack.getItem()) << 32) | (stack.getMetadata() & 0xFFFFFFFFL);
+	}
+
+	private Table<R> getTable() {
+		Table<R> table = this.table;
+		if (table == null) {
+			table = new Table<>(recipes, inputs);
+			this.table = table;
+		}
+		return table;
+	}
+
+	private static final class Table<R> {
+		/**
+		 * Recipes per item and meta, including the wildcard recipes of the item and the recipes without an input.
+		 */
+		private final Map<Item, Int2ObjectMap<List<R>>> byMeta = new HashMap<>();
+		/**
+		 * Wildcard recipes per item, including the recipes without an input. Used for metas without their own bucket.
+		 */
+		private final Map<Item, List<R>> byItem = new HashMap<>();
+		private final List<R> unkeyed = new ArrayList<>();
+		private final Set<Long> misses = ConcurrentHashMap.newKeySet();
+
+		private Table(Collection<R> recipes, Function<R, Collection<ItemStack>> inputs) {
+			List<R> recipeList = new ArrayList<>(recipes);
+			List<List<ItemStack>> recipeInputs = new ArrayList<>(recipeList.size());
+
+			for (R recipe : recipeList) {
+				List<ItemStack> stacks = new ArrayList<>();
+				for (ItemStack stack : inputs.apply(recipe)) {
+					if (!stack.isEmpty()) {
+						stacks.add(stack);
+					}
+				}
+				recipeInputs.add(stacks);
+				for (ItemStack stack : stacks) {
+					Item item = stack.getItem();
+					byItem.computeIfAbsent(item, k -> new ArrayList<>());
+					if (stack.getItemDamage() != OreDictionary.WILDCARD_VALUE) {
+						byMeta.computeIfAbsent(item, k -> new Int2ObjectOpenHashMap<>()).computeIfAbsent(stack.getItemDamage(), k -> new ArrayList<>());
+					}
+				}
+			}
+
+			for (int i = 0; i < recipeList.size(); i++) {
+				R recipe = recipeList.get(i);
+				List<ItemStack> stacks = recipeInputs.get(i);
+				if (stacks.isEmpty()) {
+					unkeyed.add(recipe);
+					for (List<R> candidates : byItem.values()) {
+						candidates.add(recipe);
+					}
+					for (Int2ObjectMap<List<R>> metaCandidates : byMeta.values()) {
+						for (List<R> candidates : metaCandidates.values()) {
+							candidates.add(recipe);
+						}
+					}
+					continue;
+				}
+				for (ItemStack stack : stacks) {
+					Item item = stack.getItem();
+					if (stack.getItemDamage() == OreDictionary.WILDCARD_VALUE) {
+						addCandidate(byItem.get(item), recipe);
+						Int2ObjectMap<List<R>> metaCandidates = byMeta.get(item);
+						if (metaCandidates != null) {
+							for (List<R> candidates : metaCandidates.values()) {
+								addCandidate(candidates, recipe);
+							}
+						}
+					} else {
+						addCandidate(byMeta.get(item).get(stack.getItemDamage()), recipe);
+					}
+				}
+			}
+		}
+
+		/**
+		 * Adds the recipe once, even if it has several inputs that end up in the same bucket.
+		 */
+		private static <R> void addCandidate(List<R> candidates, R recipe) {
+			if (candidates.isEmpty() || candidates.get(candidates.size() - 1) != recipe) {
+				candidates.add(recipe);
+			}
+		}
+
+		private List<R> getCandidates(ItemStack stack) {
+			if (stack.isEmpty()) {
+				return Collections.unmodifiableList(unkeyed);
+			}
+			Item item = stack.getItem();
+			Int2ObjectMap<List<R>> metaCandidates = byMeta.get(item);
+			if (metaCandidates != null) {
+				List<R> candidates = metaCandidates.get(stack.getItemDamage());
+				if (candidates != null) {
+					return Collections.unmodifiableList(candidates);
+				}
+			}
+			List<R> candidates = byItem.get(item);
+			if (candidates != null) {
+				return Collections.unmodifiableList(candidates);
+			}
+			return Collections.unmodifiableList(unkeyed);
+		}
+	}
+}
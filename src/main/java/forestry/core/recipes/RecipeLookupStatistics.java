@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.recipes;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts per machine type how often machines searched their recipe manager for a recipe and how often they skipped
+ * the search because none of the slots or tanks the recipe depends on changed.
+ */
+public final class RecipeLookupStatistics {
+	private static final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+	private RecipeLookupStatistics() {
+	}
+
+	public static void onLookup(String machine) {
+		entries.computeIfAbsent(machine, Entry::new).lookups.increment();
+	}
+
+	public static void onLookupSkipped(String machine) {
+		entries.computeIfAbsent(machine, Entry::new).skipped.increment();
+	}
+
+	/**
+	 * @return the statistics of all machine types that checked their recipe at least once, most lookups first.
+	 */
+	public static List<Entry> getEntries() {
+		List<Entry> sorted = new ArrayList<>(entries.values());
+		sorted.sort(Comparator.comparingLong(Entry::getLookups).reversed());
+		return sorted;
+	}
+
+	public static void reset() {
+		entries.clear();
+	}
+
+	public static final class Entry {
+		private final String machine;
+		private final LongAdder lookups = new LongAdder();
+		private final LongAdder skipped = new LongAdder();
+
+		private Entry(String machine) {
+			this.machine = machine;
+		}
+
+		public String getMachine() {
+			return machine;
+		}
+
+		public long getLookups() {
+			return lookups.sum();
+		}
+
+		public long getSkipped() {
+			return skipped.sum();
+		}
+	}
+}
@@ -12,7 +12,6 @@ package forestry.core.recipes;
 
 import javax.annotation.Nullable;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import net.minecraft.block.Block;
 import net.minecraft.inventory.IInventory;
@@ -137,7 +136,7 @@ public abstract class RecipeUtil {
 	}
 
 	public static List<IRecipe> findMatchingRecipes(InventoryCrafting inventory, World world) {
-		return ForgeRegistries.RECIPES.getValuesCollection().stream().filter(recipe -> recipe.matches(inventory, world)).collect(Collectors.toList());
+		return CraftingRecipeIndex.findMatchingRecipes(inventory, world);
 	}
 
 	public static void addRecipe(String recipeName, Block block, Object... obj) {
@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.tiles;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.World;
+
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+
+/**
+ * Takes sleeping {@link ISleepingTile}s off the ticking list of their world and puts them back once they wake up.
+ * <p>
+ * Tiles only report their sleep state changes here. The ticking list is changed at the end of the world tick, when the
+ * world is not iterating it.
+ */
+public class SleepingTiles {
+	private static final Map<World, WorldTiles> worlds = new WeakHashMap<>();
+
+	public static <T extends TileEntity & ISleepingTile> void onSleepStateChanged(T tile) {
+		World world = tile.getWorld();
+		if (world == null || world.isRemote) {
+			return;
+		}
+		worlds.computeIfAbsent(world, k -> new WorldTiles()).changed.add(tile);
+	}
+
+	public static void forget(TileEntity tile) {
+		World world = tile.getWorld();
+		if (world == null) {
+			return;
+		}
+		WorldTiles worldTiles = worlds.get(world);
+		if (worldTiles != null) {
+			worldTiles.changed.remove(tile);
+			worldTiles.parked.remove(tile);
+		}
+	}
+
+	/**
+	 * @return the number of tiles of the given world that currently do not tick.
+	 */
+	public static int getSleepingCount(World world) {
+		WorldTiles worldTiles = worlds.get(world);
+		return worldTiles == null ? 0 : worldTiles.parked.size();
+	}
+
+	@SubscribeEvent
+	public void onWorldTick(TickEvent.WorldTickEvent event) {
+		if (event.phase != TickEvent.Phase.END || event.world.isRemote) {
+			return;
+		}
+		WorldTiles worldTiles = worlds.get(event.world);
+		if (worldTiles != null && !worldTiles.changed.isEmpty()) {
+			worldTiles.apply(event.world);
+		}
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event) {
+		worlds.remove(event.getWorld());
+	}
+
+	private static class WorldTiles {
+		private final Set<TileEntity> changed = Collections.newSetFromMap(new IdentityHashMap<>());
+		/**
+		 * Tiles that were removed from the ticking list of the world.
+		 */
+		private final Set<TileEntity> parked = Collections.newSetFromMap(new IdentityHashMap<>());
+
+		private void apply(World world) {
+			Set<TileEntity> toSleep = Collections.newSetFromMap(new IdentityHashMap<>());
+			List<TileEntity> toWake = new ArrayList<>();
+			for (TileEntity tile : changed) {
+				if (((ISleepingTile) tile).isSleeping()) {
+					if (!parked.contains(tile)) {
+						toSleep.add(tile);
+					}
+				} else if (parked.remove(tile)) {
+					toWake.add(tile);
+				}
+			}
+			changed.clear();
+
+			if (!toSleep.isEmpty()) {
+				world.tickableTileEntities.removeIf(toSleep::contains);
+				parked.addAll(toSleep);
+			}
+			for (TileEntity tile : toWake) {
+				if (!tile.isInvalid() && world.getTileEntity(tile.getPos()) == tile) {
+					world.tickableTileEntities.add(tile);
+				}
+			}
+		}
+	}
+}
@@ -17,6 +17,9 @@ import net.minecraft.block.state.IBlockState;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
 
 import net.minecraftforge.common.capabilities.Capability;
 
@@ -33,6 +36,7 @@ import forestry.core.network.packets.PacketActiveUpdate;
 import forestry.core.utils.NetworkUtil;
 import forestry.energy.EnergyHelper;
 import forestry.energy.EnergyManager;
+import forestry.energy.EnergySink;
 import forestry.energy.EnergyTransferMode;
 
 public abstract class TileEngine extends TileBase implements IActivatable, IStreamableGui {
@@ -58,6 +62,19 @@ public abstract class TileEngine extends TileBase implements IActivatable, IStre
 	protected final EnergyManager energyManager;
 	private final String hintKey;
 
+	/* The facing, target tile and redstone signal, resolved again after a neighbor or the engine block changed */
+	@Nullable
+	private EnumFacing facing;
+	@Nullable
+	private EnergySink energySink;
+	/**
+	 * The chunk of the target tile if it is in another chunk than the engine. The target is gone when it unloads.
+	 */
+	@Nullable
+	private Chunk energySinkChunk;
+	@Nullable
+	private Boolean redstoneActivated;
+
 	protected TileEngine(String hintKey, int maxHeat, int maxEnergy) {
 		this.hintKey = hintKey;
 		this.maxHeat = maxHeat;
@@ -88,6 +105,13 @@ public abstract class TileEngine extends TileBase implements IActivatable, IStre
 
 	protected abstract void burn();
 
+	/**
+	 * @return true if this engine may stop ticking while it is cold, out of fuel and has no energy to send.
+	 */
+	protected boolean canSleep() {
+		return false;
+	}
+
 	@Override
 	public void updateClientSide() {
 		if (stagePiston != 0) {
@@ -118,9 +142,8 @@ public abstract class TileEngine extends TileBase implements IActivatable, IStre
 		errorLogic.setCondition(!enabledRedstone, EnumErrorCode.NO_REDSTONE);
 
 		// Determine targeted tile
-		IBlockState blockState = world.getBlockState(getPos());
-		EnumFacing facing = blockState.getValue(BlockBase.FACING);
-		TileEntity tile = world.getTileEntity(getPos().offset(facing));
+		EnumFacing facing = getOutputFacing();
+		EnergySink energySink = getEnergySink(facing);
 
 		float newPistonSpeed = getPistonSpeed();
 		if (newPistonSpeed != pistonSpeedServer) {
@@ -132,7 +155,7 @@ public abstract class TileEngine extends TileBase implements IActivatable, IStre
 
 			progress += pistonSpeedServer;
 
-			EnergyHelper.sendEnergy(energyManager, facing, tile);
+			EnergyHelper.sendEnergy(energyManager, energySink);
 
 			if (progress > 0.25 && stagePiston == 1) {
 				stagePiston = 2;
@@ -140,8 +163,8 @@ public abstract class TileEngine extends TileBase implements IActivatable, IStre
 				progress = 0;
 				stagePiston = 0;
 			}
-		} else if (enabledRedstone && EnergyHelper.isEnergyReceiverOrEngine(facing.getOpposite(), tile)) {
-			if (EnergyHelper.canSendEnergy(energyManager, facing, tile)) {
+		} else if (enabledRedstone && energySink.isEnergyReceiverOrEngine()) {
+			if (EnergyHelper.canSendEnergy(energyManager, energySink)) {
 				stagePiston = 1; // If we can transfer energy, start running
 				setActive(true);
 				cantSendEnergyCountdown = CANT_SEND_ENERGY_TIME;
@@ -165,6 +188,94 @@ public abstract class TileEngine extends TileBase implements IActivatable, IStre
 		} else {
 			energyManager.drainEnergy(20);
 		}
+
+		if (canSleep() && isIdle(enabledRedstone)) {
+			sleepIfIdle();
+		} else {
+			wakeUp();
+		}
+	}
+
+	private EnumFacing getOutputFacing() {
+		EnumFacing facing = this.facing;
+		if (facing == null) {
+			IBlockState blockState = world.getBlockState(getPos());
+			facing = blockState.getValue(BlockBase.FACING);
+			this.facing = facing;
+		}
+		return facing;
+	}
+
+	private EnergySink getEnergySink(EnumFacing facing) {
+		EnergySink energySink = this.energySink;
+		if (energySink != null && energySink.isValid() && isEnergySinkLoaded()) {
+			return energySink;
+		}
+		BlockPos targetPos = getPos().offset(facing);
+		TileEntity tile = world.getTileEntity(targetPos);
+		energySink = EnergySink.resolve(tile, facing.getOpposite());
+		this.energySink = energySink;
+		if (tile != null && (targetPos.getX() >> 4 != getPos().getX() >> 4 || targetPos.getZ() >> 4 != getPos().getZ() >> 4)) {
+			energySinkChunk = world.getChunk(targetPos);
+		} else {
+			energySinkChunk = null;
+		}
+		return energySink;
+	}
+
+	private boolean isEnergySinkLoaded() {
+		Chunk chunk = energySinkChunk;
+		return chunk == null || world.getChunkProvider().getLoadedChunk(chunk.x, chunk.z) == chunk;
+	}
+
+	private void invalidateEnergySink() {
+		energySink = null;
+		energySinkChunk = null;
+	}
+
+	@Override
+	public void onNeighborBlockChange(BlockPos neighbor) {
+		super.onNeighborBlockChange(neighbor);
+		invalidateEnergySink();
+		redstoneActivated = null;
+	}
+
+	@Override
+	public void onNeighborTileChange(World world, BlockPos pos, BlockPos neighbor) {
+		super.onNeighborTileChange(world, pos, neighbor);
+		invalidateEnergySink();
+	}
+
+	@Override
+	public void updateContainingBlockInfo() {
+		super.updateContainingBlockInfo();
+		// the engine was rotated
+		facing = null;
+		invalidateEnergySink();
+	}
+
+	@Override
+	public void invalidate() {
+		super.invalidate();
+		invalidateEnergySink();
+	}
+
+	@Override
+	protected boolean isRedstoneActivated() {
+		if (world.isRemote) {
+			return super.isRedstoneActivated();
+		}
+		Boolean activated = redstoneActivated;
+		if (activated == null) {
+			activated = super.isRedstoneActivated();
+			redstoneActivated = activated;
+		}
+		return activated;
+	}
+
+	private boolean isIdle(boolean enabledRedstone) {
+		return heat <= 0 && stagePiston == 0 && !isActive() && !isBurning() &&
+			(!enabledRedstone || energyManager.getEnergyStored() == 0);
 	}
 
 	@Override
@@ -42,11 +42,14 @@ import net.minecraftforge.fml.relauncher.SideOnly;
 import forestry.api.core.IErrorLogic;
 import forestry.api.core.IErrorLogicSource;
 import forestry.api.core.ILocatable;
+import forestry.core.config.Config;
 import forestry.core.config.Constants;
 import forestry.core.errors.ErrorLogic;
 import forestry.core.gui.IGuiHandlerTile;
 import forestry.core.inventory.FakeInventoryAdapter;
 import forestry.core.inventory.IInventoryAdapter;
+import forestry.core.inventory.InventoryAdapter;
+import forestry.core.inventory.watchers.ISlotChangeWatcher;
 import forestry.core.network.IStreamable;
 import forestry.core.network.PacketBufferForestry;
 import forestry.core.network.packets.PacketTileStream;
@@ -61,7 +64,7 @@ import buildcraft.api.statements.ITriggerInternalSided;
 import buildcraft.api.statements.ITriggerProvider;
 
 @Optional.Interface(iface = "buildcraft.api.statements.ITriggerProvider", modid = Constants.BCLIB_MOD_ID)
-public abstract class TileForestry extends TileEntity implements IStreamable, IErrorLogicSource, ISidedInventory, IFilterSlotDelegate, ITitled, ILocatable, IGuiHandlerTile, ITickable, ITriggerProvider {
+public abstract class TileForestry extends TileEntity implements IStreamable, IErrorLogicSource, ISidedInventory, IFilterSlotDelegate, ITitled, ILocatable, IGuiHandlerTile, ITickable, ISleepingTile, ITriggerProvider {
 	private final ErrorLogic errorHandler = new ErrorLogic();
 	private final AdjacentTileCache tileCache = new AdjacentTileCache(this);
 
@@ -70,18 +73,40 @@ public abstract class TileForestry extends TileEntity implements IStreamable, IE
 	private final TickHelper tickHelper = new TickHelper();
 	private boolean needsNetworkUpdate = false;
 
+	/**
+	 * Game ticks a tile has to stay idle before {@link #sleepIfIdle()} takes it off the ticking list.
+	 */
+	private static final int SLEEP_DELAY = 40;
+	private boolean sleeping = false;
+	private long lastAwakeTime;
+
 	protected AdjacentTileCache getTileCache() {
 		return tileCache;
 	}
 
 	public void onNeighborTileChange(World world, BlockPos pos, BlockPos neighbor) {
 		tileCache.onNeighborChange();
+		wakeUp();
+	}
+
+	/**
+	 * Called on the server when a neighbor block changes, for example when the redstone signal changes.
+	 */
+	public void onNeighborBlockChange(BlockPos neighbor) {
+		wakeUp();
 	}
 
 	@Override
 	public void invalidate() {
 		tileCache.purge();
 		super.invalidate();
+		SleepingTiles.forget(this);
+	}
+
+	@Override
+	public void onChunkUnload() {
+		super.onChunkUnload();
+		SleepingTiles.forget(this);
 	}
 
 	@Override
@@ -118,6 +143,40 @@ public abstract class TileForestry extends TileEntity implements IStreamable, IE
 		return tickHelper.updateOnInterval(tickInterval);
 	}
 
+	/* SLEEPING */
+
+	/**
+	 * Called by tiles that have nothing to do. Once the tile was idle for a while and sleeping tiles are enabled in the
+	 * config, it stops ticking until {@link #wakeUp()} is called.
+	 */
+	protected final void sleepIfIdle() {
+		if (sleeping || !Config.enableSleepingTiles || world.getTotalWorldTime() - lastAwakeTime < SLEEP_DELAY) {
+			return;
+		}
+		sleeping = true;
+		SleepingTiles.onSleepStateChanged(this);
+	}
+
+	/**
+	 * Puts a sleeping tile back on the ticking list and delays the next sleep.
+	 * Called for inventory, tank and neighbor changes, received energy and opened guis.
+	 */
+	public final void wakeUp() {
+		if (world == null || world.isRemote) {
+			return;
+		}
+		lastAwakeTime = world.getTotalWorldTime();
+		if (sleeping) {
+			sleeping = false;
+			SleepingTiles.onSleepStateChanged(this);
+		}
+	}
+
+	@Override
+	public final boolean isSleeping() {
+		return sleeping;
+	}
+
 	// / SAVING & LOADING
 	@Override
 	public void readFromNBT(NBTTagCompound data) {
@@ -227,6 +286,22 @@ public abstract class TileForestry extends TileEntity implements IStreamable, IE
 	protected final void setInternalInventory(IInventoryAdapter inv) {
 		Preconditions.checkNotNull(inv);
 		this.inventory = inv;
+		if (inv instanceof InventoryAdapter) {
+			((InventoryAdapter) inv).addSlotChangeWatcher((inventory, slotIndex) -> wakeUp());
+		}
+	}
+
+	/**
+	 * Container slots change their stacks in place and only mark the tile dirty, so slot change watchers of the
+	 * internal inventory are told about it here.
+	 */
+	@Override
+	public void markDirty() {
+		super.markDirty();
+		wakeUp();
+		if (inventory instanceof InventoryAdapter) {
+			((InventoryAdapter) inventory).onSlotChanged(ISlotChangeWatcher.ALL_SLOTS);
+		}
 	}
 
 	/* ISidedInventory */
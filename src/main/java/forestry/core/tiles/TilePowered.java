@@ -53,6 +53,7 @@ public abstract class TilePowered extends TileBase implements IRenderableTile, I
 	protected TilePowered(int maxTransfer, int capacity) {
 		this.energyManager = new EnergyManager(maxTransfer, capacity);
 		this.energyManager.setExternalMode(EnergyTransferMode.RECEIVE);
+		this.energyManager.setReceiveListener(this::wakeUp);
 
 		this.ticksPerWorkCycle = 4;
 	}
@@ -96,6 +97,14 @@ public abstract class TilePowered extends TileBase implements IRenderableTile, I
 
 	public abstract boolean hasWork();
 
+	/**
+	 * @return true if this tile may stop ticking while it has no work. Only tiles that notice every new piece of work
+	 * through their inventory, tanks, neighbors or received energy can sleep.
+	 */
+	protected boolean canSleep() {
+		return false;
+	}
+
 	@Override
 	protected void updateServerSide() {
 		super.updateServerSide();
@@ -108,13 +117,13 @@ public abstract class TilePowered extends TileBase implements IRenderableTile, I
 
 		boolean disabled = isRedstoneActivated();
 		errorLogic.setCondition(disabled, EnumErrorCode.DISABLED_BY_REDSTONE);
-		if (disabled) {
-			return;
-		}
-
-		if (!hasWork()) {
+		if (disabled || !hasWork()) {
+			if (canSleep()) {
+				sleepIfIdle();
+			}
 			return;
 		}
+		wakeUp();
 
 		int ticksPerWorkCycle = getTicksPerWorkCycle();
 
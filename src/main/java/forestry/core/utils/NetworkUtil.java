@@ -17,20 +17,27 @@ import net.minecraft.client.network.NetHandlerPlayClient;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.server.management.PlayerChunkMap;
+import net.minecraft.server.management.PlayerChunkMapEntry;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
 
 import net.minecraftforge.common.util.FakePlayer;
 
+import net.minecraftforge.fml.common.network.internal.FMLProxyPacket;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
 import forestry.Forestry;
 import forestry.core.network.IForestryPacketClient;
 import forestry.core.network.IForestryPacketServer;
+import forestry.core.network.PacketStatistics;
 
 public class NetworkUtil {
+	/**
+	 * Sends the packet to all players that are watching the chunk at the given position.
+	 * The packet is only written once and the same data is sent to every watching player.
+	 */
 	public static <P extends IForestryPacketClient> void sendNetworkPacket(P packet, BlockPos pos, World world) {
 		if (!(world instanceof WorldServer)) {
 			return;
@@ -39,18 +46,14 @@ public class NetworkUtil {
 		WorldServer worldServer = (WorldServer) world;
 		PlayerChunkMap playerManager = worldServer.getPlayerChunkMap();
 
-		int chunkX = pos.getX() >> 4;
-		int chunkZ = pos.getZ() >> 4;
-
-		for (Object playerObj : world.playerEntities) {
-			if (playerObj instanceof EntityPlayerMP) {
-				EntityPlayerMP player = (EntityPlayerMP) playerObj;
-
-				if (playerManager.isPlayerWatchingChunk(player, chunkX, chunkZ)) {
-					sendToPlayer(packet, player);
-				}
-			}
+		PlayerChunkMapEntry playerChunkMapEntry = playerManager.getEntry(pos.getX() >> 4, pos.getZ() >> 4);
+		if (playerChunkMapEntry == null || !playerChunkMapEntry.isSentToPlayers()) {
+			return;
 		}
+
+		FMLProxyPacket proxyPacket = packet.getPacket();
+		PacketStatistics.onPacketSent(packet.getPacketId(), proxyPacket.payload().readableBytes(), playerChunkMapEntry.players.size());
+		playerChunkMapEntry.sendPacket(proxyPacket);
 	}
 
 	public static void sendToPlayer(IForestryPacketClient packet, EntityPlayer entityplayer) {
@@ -59,7 +62,9 @@ public class NetworkUtil {
 		}
 
 		EntityPlayerMP player = (EntityPlayerMP) entityplayer;
-		Forestry.getPacketHandler().sendPacket(packet.getPacket(), player);
+		FMLProxyPacket proxyPacket = packet.getPacket();
+		PacketStatistics.onPacketSent(packet.getPacketId(), proxyPacket.payload().readableBytes(), 1);
+		Forestry.getPacketHandler().sendPacket(proxyPacket, player);
 	}
 
 	public static void inventoryChangeNotify(EntityPlayer player) {
@@ -72,6 +77,8 @@ public class NetworkUtil {
 	public static void sendToServer(IForestryPacketServer packet) {
 		NetHandlerPlayClient netHandler = Minecraft.getMinecraft().getConnection();
 		Preconditions.checkNotNull(netHandler, "Tried to send packet before netHandler (client world) exists.");
-		netHandler.sendPacket(packet.getPacket());
+		FMLProxyPacket proxyPacket = packet.getPacket();
+		PacketStatistics.onPacketSent(packet.getPacketId(), proxyPacket.payload().readableBytes(), 1);
+		netHandler.sendPacket(proxyPacket);
 	}
 }
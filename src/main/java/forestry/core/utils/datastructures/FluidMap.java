@@ -10,6 +10,8 @@
  ******************************************************************************/
 package forestry.core.utils.datastructures;
 
+import javax.annotation.Nullable;
+
 import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fluids.FluidRegistry;
 import net.minecraftforge.fluids.FluidStack;
@@ -31,6 +33,19 @@ public class FluidMap<T> extends StackMap<Fluid, T> {
 		return false;
 	}
 
+	@Override
+	@Nullable
+	protected Object getBucket(Object key) {
+		if (key instanceof FluidStack) {
+			return ((FluidStack) key).getFluid();
+		}
+		if (key instanceof Fluid) {
+			return key;
+		}
+		// fluid names are compared with every lookup
+		return null;
+	}
+
 	@Override
 	protected boolean isValidKey(Object key) {
 		return key instanceof FluidStack || key instanceof Fluid || key instanceof String;
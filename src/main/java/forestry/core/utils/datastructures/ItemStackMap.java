@@ -10,6 +10,8 @@
  ******************************************************************************/
 package forestry.core.utils.datastructures;
 
+import javax.annotation.Nullable;
+
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 
@@ -39,6 +41,20 @@ public class ItemStackMap<T> extends StackMap<ItemStack, T> {
 		return false;
 	}
 
+	@Override
+	@Nullable
+	protected Object getBucket(Object key) {
+		if (key instanceof ItemStack) {
+			ItemStack stack = (ItemStack) key;
+			return stack.isEmpty() ? null : stack.getItem();
+		}
+		if (key instanceof Item) {
+			return key;
+		}
+		// ore dictionary names are compared with every lookup
+		return null;
+	}
+
 	@Override
 	protected boolean isValidKey(Object key) {
 		return key instanceof ItemStack || key instanceof Item || key instanceof String;
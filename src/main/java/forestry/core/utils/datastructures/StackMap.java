@@ -13,7 +13,10 @@ package forestry.core.utils.datastructures;
 import com.google.common.base.Preconditions;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -24,14 +27,40 @@ import java.util.Map;
  * @author Alex Binnie
  */
 public abstract class StackMap<P, T> extends HashMap<P, T> {
+	/**
+	 * Stored keys by {@link #getBucket(Object)}, so lookups only compare against keys they can be equal to.
+	 * Built on the first lookup and dropped whenever the map changes.
+	 */
+	@Nullable
+	private transient volatile KeyBuckets buckets;
 
 	@Override
 	public final T put(P key, T value) {
 		Preconditions.checkArgument(isValidKey(key), "Key is invalid");
 		Preconditions.checkNotNull(value);
+		buckets = null;
 		return super.put(key, value);
 	}
 
+	@Override
+	public void putAll(Map<? extends P, ? extends T> map) {
+		for (Map.Entry<? extends P, ? extends T> entry : map.entrySet()) {
+			put(entry.getKey(), entry.getValue());
+		}
+	}
+
+	@Override
+	public T remove(Object key) {
+		buckets = null;
+		return super.remove(key);
+	}
+
+	@Override
+	public void clear() {
+		buckets = null;
+		super.clear();
+	}
+
 	private static final long serialVersionUID = 5383477742290646466L;
 
 	@Override
@@ -40,10 +69,8 @@ public abstract class StackMap<P, T> extends HashMap<P, T> {
 		if (stack == null) {
 			return false;
 		}
-		for (Map.Entry<P, T> entry : this.entrySet()) {
-			if (areEqual(stack, entry.getKey())) {
-				return true;
-			}
+		if (findKey(stack) != null) {
+			return true;
 		}
 		return super.containsKey(key);
 	}
@@ -55,14 +82,62 @@ public abstract class StackMap<P, T> extends HashMap<P, T> {
 		if (stack == null) {
 			return null;
 		}
-		for (Map.Entry<P, T> entry : this.entrySet()) {
-			if (areEqual(stack, entry.getKey())) {
-				return entry.getValue();
-			}
+		Object storedKey = findKey(stack);
+		if (storedKey != null) {
+			return super.get(storedKey);
 		}
 		return super.get(key);
 	}
 
+	@Nullable
+	private Object findKey(P stack) {
+		KeyBuckets buckets = getBuckets();
+		Object bucket = getBucket(stack);
+		if (bucket != null) {
+			for (Object storedKey : buckets.byBucket.getOrDefault(bucket, Collections.emptyList())) {
+				if (areEqual(stack, storedKey)) {
+					return storedKey;
+				}
+			}
+		}
+		for (Object storedKey : buckets.unbucketed) {
+			if (areEqual(stack, storedKey)) {
+				return storedKey;
+			}
+		}
+		return null;
+	}
+
+	private KeyBuckets getBuckets() {
+		KeyBuckets buckets = this.buckets;
+		// the size check catches changes that do not go through put or remove, like compute or iterator removal
+		if (buckets == null || buckets.size != size()) {
+			buckets = new KeyBuckets(size());
+			for (Object storedKey : keySet()) {
+				Object bucket = getBucket(storedKey);
+				if (bucket == null) {
+					buckets.unbucketed.add(storedKey);
+				} else {
+					buckets.byBucket.computeIfAbsent(bucket, k -> new ArrayList<>()).add(storedKey);
+				}
+			}
+			this.buckets = buckets;
+		}
+		return buckets;
+	}
+
+	/**
+	 * Groups keys that can be equal, a lookup only compares against the stored keys of its own bucket and the keys
+	 * without a bucket.
+	 *
+	 * @param key a stored key or a stack used to lookup
+	 * @return the bucket of the key, or null if it has to be compared with every lookup
+	 */
+	@Nullable
+	protected Object getBucket(Object key) {
+		return null;
+	}
+
 	/**
 	 * Is a, the key used to lookup, equivelant to the key b
 	 *
@@ -89,4 +164,14 @@ public abstract class StackMap<P, T> extends HashMap<P, T> {
 	@Nullable
 	protected abstract P getStack(Object key);
 
+	private static final class KeyBuckets {
+		private final Map<Object, List<Object>> byBucket = new HashMap<>();
+		private final List<Object> unbucketed = new ArrayList<>();
+		private final int size;
+
+		private KeyBuckets(int size) {
+			this.size = size;
+		}
+	}
+
 }
@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.worldgen;
+
+import javax.annotation.Nullable;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+
+/**
+ * Places the blocks of one generated structure, like a tree, without notifying the neighbors of every single block.
+ * <p>
+ * The blocks are sent to the clients as usual. When the batch is finished, only the blocks at the outside of the
+ * structure notify their neighbors, because the blocks inside only neighbor other new blocks of the structure.
+ * During world decoration no neighbors are notified at all, like vanilla decoration does.
+ * <p>
+ * Batches are only used on the server thread. A batch that is started while another batch of the same world is
+ * running joins the running batch.
+ */
+public final class BlockPlacementBatch {
+	private static final int FLAGS_NO_NOTIFY = 2;
+
+	@Nullable
+	private static BlockPlacementBatch current;
+
+	private final World world;
+	private final boolean notifyNeighbors;
+	private final LongLinkedOpenHashSet placed = new LongLinkedOpenHashSet();
+	@Nullable
+	private final BlockPlacementBatch previous;
+	private int depth = 1;
+
+	private BlockPlacementBatch(World world, boolean notifyNeighbors, @Nullable BlockPlacementBatch previous) {
+		this.world = world;
+		this.notifyNeighbors = notifyNeighbors;
+		this.previous = previous;
+	}
+
+	/**
+	 * Starts a batch for the given world. Every started batch has to be finished with {@link #finish()}.
+	 *
+	 * @param notifyNeighbors false to never notify the neighbors of the placed blocks, for example during decoration.
+	 */
+	public static BlockPlacementBatch start(World world, boolean notifyNeighbors) {
+		BlockPlacementBatch batch = current;
+		if (batch != null && batch.world == world) {
+			batch.depth++;
+			return batch;
+		}
+		batch = new BlockPlacementBatch(world, notifyNeighbors, batch);
+		current = batch;
+		return batch;
+	}
+
+	/**
+	 * Sets the block state like {@link World#setBlockState(BlockPos, IBlockState)}, but leaves the neighbor
+	 * notifications to the running batch of the world if there is one.
+	 */
+	public static boolean setBlockState(World world, BlockPos pos, IBlockState state) {
+		BlockPlacementBatch batch = current;
+		if (batch == null || batch.world != world) {
+			return world.setBlockState(pos, state);
+		}
+		if (!world.setBlockState(pos, state, FLAGS_NO_NOTIFY)) {
+			return false;
+		}
+		batch.placed.add(pos.toLong());
+		return true;
+	}
+
+	public void finish() {
+		if (--depth > 0) {
+			return;
+		}
+		current = previous;
+		if (notifyNeighbors) {
+			notifyOutsideNeighbors();
+		}
+	}
+
+	private void notifyOutsideNeighbors() {
+		LongIterator iterator = placed.iterator();
+		while (iterator.hasNext()) {
+			BlockPos pos = BlockPos.fromLong(iterator.nextLong());
+			for (EnumFacing facing : EnumFacing.VALUES) {
+				if (!placed.contains(pos.offset(facing).toLong())) {
+					world.notifyNeighborsOfStateChange(pos, world.getBlockState(pos).getBlock(), true);
+					break;
+				}
+			}
+		}
+	}
+}
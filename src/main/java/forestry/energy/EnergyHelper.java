@@ -66,6 +66,32 @@ public class EnergyHelper {
 		return 0;
 	}
 
+	/**
+	 * Sends as much energy as it can to a resolved sink.
+	 * For power sources.
+	 *
+	 * @return amount sent
+	 */
+	public static int sendEnergy(EnergyManager energyManager, EnergySink sink) {
+		return sendEnergy(energyManager, sink, Integer.MAX_VALUE, false);
+	}
+
+	/**
+	 * Sends amount of energy to a resolved sink.
+	 * For power sources.
+	 *
+	 * @return amount sent
+	 */
+	public static int sendEnergy(EnergyManager energyManager, EnergySink sink, int amount, boolean simulate) {
+		int extractable = energyManager.extractEnergy(amount, true);
+		if (extractable > 0) {
+			final int sent = sink.receiveEnergy(extractable, simulate);
+			energyManager.extractEnergy(sent, simulate);
+			return sent;
+		}
+		return 0;
+	}
+
 	private static int sendEnergyToTile(@Nullable TileEntity tile, EnumFacing side, int extractable, boolean simulate) {
 		if (tile == null) {
 			return 0;
@@ -101,6 +127,13 @@ public class EnergyHelper {
 		return sendEnergy(energyManager, orientation, tile, Integer.MAX_VALUE, true) > 0;
 	}
 
+	/**
+	 * @return whether this can send energy to the sink
+	 */
+	public static boolean canSendEnergy(EnergyManager energyManager, EnergySink sink) {
+		return sendEnergy(energyManager, sink, Integer.MAX_VALUE, true) > 0;
+	}
+
 	public static boolean isEnergyReceiverOrEngine(EnumFacing side, @Nullable TileEntity tile) {
 		if (tile == null) {
 			return false;
@@ -38,6 +38,8 @@ import net.darkhax.tesla.api.ITeslaProducer;
 
 public class EnergyManager extends EnergyStorage implements IStreamable, INbtReadable, INbtWritable {
 	private EnergyTransferMode externalMode = EnergyTransferMode.BOTH;
+	@Nullable
+	private Runnable receiveListener;
 
 	public EnergyManager(int maxTransfer, int capacity) {
 		super(EnergyHelper.scaleForDifficulty(capacity), EnergyHelper.scaleForDifficulty(maxTransfer), EnergyHelper.scaleForDifficulty(maxTransfer));
@@ -51,6 +53,22 @@ public class EnergyManager extends EnergyStorage implements IStreamable, INbtRea
 		return externalMode;
 	}
 
+	/**
+	 * @param receiveListener called whenever energy was actually received, used to wake up sleeping tiles.
+	 */
+	public void setReceiveListener(@Nullable Runnable receiveListener) {
+		this.receiveListener = receiveListener;
+	}
+
+	@Override
+	public int receiveEnergy(int maxReceive, boolean simulate) {
+		int received = super.receiveEnergy(maxReceive, simulate);
+		if (received > 0 && !simulate && receiveListener != null) {
+			receiveListener.run();
+		}
+		return received;
+	}
+
 	@Override
 	public void readFromNBT(NBTTagCompound nbt) {
 		final int energy;
@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.energy;
+
+import javax.annotation.Nullable;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+
+import net.minecraftforge.energy.CapabilityEnergy;
+import net.minecraftforge.energy.IEnergyStorage;
+
+import forestry.core.config.Config;
+import forestry.core.tiles.TileEngine;
+import forestry.energy.compat.mj.MjHelper;
+import forestry.energy.compat.tesla.TeslaHelper;
+
+/**
+ * A tile that a power source sends energy to, with the way to send it resolved once.
+ * <p>
+ * Behaves like {@link EnergyHelper#sendEnergy(EnergyManager, EnumFacing, TileEntity, int, boolean)} and
+ * {@link EnergyHelper#isEnergyReceiverOrEngine(EnumFacing, TileEntity)}, without probing the capabilities of the tile
+ * again on every call. The owner has to resolve the sink again when the tile on that side may have changed.
+ */
+public final class EnergySink {
+	private static final EnergySink NONE = new EnergySink(null, EnumFacing.DOWN);
+
+	private enum Target {
+		NONE, ENGINE, RF, TESLA, MJ
+	}
+
+	@Nullable
+	private final TileEntity tile;
+	private final EnumFacing side;
+	private final Target target;
+	/**
+	 * The RF storage of the tile, if it has one. Only used for the receiver check when RF is disabled.
+	 */
+	@Nullable
+	private final IEnergyStorage energyStorage;
+	private final boolean hasEnergyCapability;
+	private final boolean otherReceiver;
+
+	private EnergySink(@Nullable TileEntity tile, EnumFacing side) {
+		this.tile = tile;
+		this.side = side;
+		if (tile == null) {
+			target = Target.NONE;
+			energyStorage = null;
+			hasEnergyCapability = false;
+			otherReceiver = false;
+			return;
+		}
+
+		hasEnergyCapability = tile.hasCapability(CapabilityEnergy.ENERGY, side);
+		energyStorage = hasEnergyCapability ? tile.getCapability(CapabilityEnergy.ENERGY, side) : null;
+		boolean teslaReceiver = TeslaHelper.isEnergyReceiver(tile, side);
+		boolean mjReceiver = MjHelper.isEnergyReceiver(tile, side);
+		otherReceiver = teslaReceiver || mjReceiver;
+
+		if (tile instanceof TileEngine) { // engine chaining
+			target = Target.ENGINE;
+		} else if (Config.enableRF && energyStorage != null) {
+			target = Target.RF;
+		} else if (Config.enableTesla && teslaReceiver) {
+			target = Target.TESLA;
+		} else if (Config.enableMJ && mjReceiver) {
+			target = Target.MJ;
+		} else {
+			target = Target.NONE;
+		}
+	}
+
+	/**
+	 * @param side the side of the tile that receives the energy.
+	 */
+	public static EnergySink resolve(@Nullable TileEntity tile, EnumFacing side) {
+		if (tile == null) {
+			return NONE;
+		}
+		return new EnergySink(tile, side);
+	}
+
+	@Nullable
+	public TileEntity getTile() {
+		return tile;
+	}
+
+	/**
+	 * @return false if the tile of the sink was removed from the world.
+	 */
+	public boolean isValid() {
+		return tile == null || !tile.isInvalid();
+	}
+
+	public boolean isEnergyReceiverOrEngine() {
+		if (tile == null) {
+			return false;
+		}
+		if (target == Target.ENGINE) {
+			return true;
+		}
+		if (hasEnergyCapability) {
+			return energyStorage != null && energyStorage.canReceive();
+		}
+		return otherReceiver;
+	}
+
+	/**
+	 * @return the amount of energy the tile received.
+	 */
+	public int receiveEnergy(int amount, boolean simulate) {
+		switch (target) {
+			case ENGINE:
+				return ((TileEngine) tile).getEnergyManager().receiveEnergy(amount, simulate);
+			case RF:
+				return energyStorage.receiveEnergy(amount, simulate);
+			case TESLA:
+				return TeslaHelper.sendEnergy(tile, side, amount, simulate);
+			case MJ:
+				return MjHelper.sendEnergy(tile, side, amount, simulate);
+			default:
+				return 0;
+		}
+	}
+}
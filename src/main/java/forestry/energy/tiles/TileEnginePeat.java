@@ -226,6 +226,14 @@ public class TileEnginePeat extends TileEngine implements ISidedInventory {
 		}
 	}
 
+	/**
+	 * The engine has to stay awake while it still has ash to dump into adjacent inventories.
+	 */
+	@Override
+	protected boolean canSleep() {
+		return InventoryUtil.isEmpty(getInternalInventory(), InventoryEnginePeat.SLOT_WASTE_1, InventoryEnginePeat.SLOT_WASTE_COUNT);
+	}
+
 	/* AUTO-EJECTING */
 	private IInventory getWasteInventory() {
 		return new InventoryMapper(this, InventoryEnginePeat.SLOT_WASTE_1, InventoryEnginePeat.SLOT_WASTE_COUNT);
@@ -26,6 +26,7 @@ import net.minecraftforge.fluids.FluidStack;
 import forestry.api.recipes.ICarpenterManager;
 import forestry.api.recipes.ICarpenterRecipe;
 import forestry.api.recipes.IDescriptiveRecipe;
+import forestry.core.recipes.ItemRecipeIndex;
 import forestry.core.recipes.RecipePair;
 import forestry.core.recipes.RecipeUtil;
 import forestry.core.recipes.ShapedRecipeCustom;
@@ -35,6 +36,8 @@ public class CarpenterRecipeManager implements ICarpenterManager {
 
 	private static final Set<ICarpenterRecipe> recipes = new HashSet<>();
 	private static final Set<Fluid> recipeFluids = new HashSet<>();
+	// recipes without a box are candidates for every box slot, including an empty one
+	private static final ItemRecipeIndex<ICarpenterRecipe> boxIndex = new ItemRecipeIndex<>(recipes, recipe -> Collections.singletonList(recipe.getBox()));
 
 	@Override
 	public void addRecipe(ItemStack box, ItemStack product, Object materials[]) {
@@ -54,7 +57,7 @@ public class CarpenterRecipeManager implements ICarpenterManager {
 
 	@Nullable
 	public static RecipePair<ICarpenterRecipe> findMatchingRecipe(@Nullable FluidStack liquid, ItemStack item, IInventory inventorycrafting) {
-		for (ICarpenterRecipe recipe : recipes) {
+		for (ICarpenterRecipe recipe : boxIndex.getCandidates(item)) {
 			String[][] resourceDicts = matches(recipe, liquid, item, inventorycrafting);
 			if (resourceDicts != null) {
 				return new RecipePair(recipe, resourceDicts);
@@ -85,22 +88,24 @@ public class CarpenterRecipeManager implements ICarpenterManager {
 	}
 
 	public static boolean isBox(ItemStack resource) {
-		if (resource.isEmpty()) {
+		if (resource.isEmpty() || boxIndex.isKnownMiss(resource)) {
 			return false;
 		}
 
-		for (ICarpenterRecipe recipe : recipes) {
+		for (ICarpenterRecipe recipe : boxIndex.getCandidates(resource)) {
 			ItemStack box = recipe.getBox();
 			if (ItemStackUtil.isIdenticalItem(box, resource)) {
 				return true;
 			}
 		}
 
+		boxIndex.markMiss(resource);
 		return false;
 	}
 
 	@Override
 	public boolean addRecipe(ICarpenterRecipe recipe) {
+		boxIndex.invalidate();
 		return recipes.add(recipe);
 	}
 
@@ -109,6 +114,7 @@ public class CarpenterRecipeManager implements ICarpenterManager {
 		boolean removed = recipes.remove(recipe);
 		if (removed) {
 			recipeFluids.clear();
+			boxIndex.invalidate();
 		}
 		return removed;
 	}
@@ -20,11 +20,13 @@ import net.minecraft.item.ItemStack;
 
 import forestry.api.recipes.ICentrifugeManager;
 import forestry.api.recipes.ICentrifugeRecipe;
+import forestry.core.recipes.ItemRecipeIndex;
 import forestry.core.utils.ItemStackUtil;
 
 public class CentrifugeRecipeManager implements ICentrifugeManager {
 
 	private static final Set<ICentrifugeRecipe> recipes = new HashSet<>();
+	private static final ItemRecipeIndex<ICentrifugeRecipe> recipeIndex = new ItemRecipeIndex<>(recipes, recipe -> Collections.singletonList(recipe.getInput()));
 
 	@Override
 	public void addRecipe(int timePerItem, ItemStack resource, Map<ItemStack, Float> products) {
@@ -34,26 +36,29 @@ public class CentrifugeRecipeManager implements ICentrifugeManager {
 
 	@Nullable
 	public static ICentrifugeRecipe findMatchingRecipe(ItemStack itemStack) {
-		if (itemStack.isEmpty()) {
+		if (itemStack.isEmpty() || recipeIndex.isKnownMiss(itemStack)) {
 			return null;
 		}
 
-		for (ICentrifugeRecipe recipe : recipes) {
+		for (ICentrifugeRecipe recipe : recipeIndex.getCandidates(itemStack)) {
 			ItemStack recipeInput = recipe.getInput();
 			if (ItemStackUtil.isCraftingEquivalent(recipeInput, itemStack)) {
 				return recipe;
 			}
 		}
+		recipeIndex.markMiss(itemStack);
 		return null;
 	}
 
 	@Override
 	public boolean addRecipe(ICentrifugeRecipe recipe) {
+		recipeIndex.invalidate();
 		return recipes.add(recipe);
 	}
 
 	@Override
 	public boolean removeRecipe(ICentrifugeRecipe recipe) {
+		recipeIndex.invalidate();
 		return recipes.remove(recipe);
 	}
 
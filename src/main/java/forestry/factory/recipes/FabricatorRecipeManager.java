@@ -25,6 +25,7 @@ import net.minecraftforge.fluids.FluidStack;
 
 import forestry.api.recipes.IFabricatorManager;
 import forestry.api.recipes.IFabricatorRecipe;
+import forestry.core.recipes.ItemRecipeIndex;
 import forestry.core.recipes.RecipePair;
 import forestry.core.recipes.RecipeUtil;
 import forestry.core.recipes.ShapedRecipeCustom;
@@ -33,6 +34,8 @@ import forestry.core.utils.ItemStackUtil;
 public class FabricatorRecipeManager implements IFabricatorManager {
 
 	private static final Set<IFabricatorRecipe> recipes = new HashSet<>();
+	// recipes without a plan are candidates for every plan slot, including an empty one
+	private static final ItemRecipeIndex<IFabricatorRecipe> planIndex = new ItemRecipeIndex<>(recipes, recipe -> Collections.singletonList(recipe.getPlan()));
 
 	@Override
 	public void addRecipe(ItemStack plan, FluidStack molten, ItemStack result, Object[] pattern) {
@@ -47,7 +50,7 @@ public class FabricatorRecipeManager implements IFabricatorManager {
 	public static RecipePair<IFabricatorRecipe> findMatchingRecipe(ItemStack plan, IInventory resources) {
 		ItemStack[][] gridResources = RecipeUtil.getResources(resources);
 
-		for (IFabricatorRecipe recipe : recipes) {
+		for (IFabricatorRecipe recipe : planIndex.getCandidates(plan)) {
 			if (!recipe.getPlan().isEmpty() && !ItemStackUtil.isCraftingEquivalent(recipe.getPlan(), plan)) {
 				continue;
 			}
@@ -61,22 +64,29 @@ public class FabricatorRecipeManager implements IFabricatorManager {
 	}
 
 	public static boolean isPlan(ItemStack plan) {
-		for (IFabricatorRecipe recipe : recipes) {
+		if (planIndex.isKnownMiss(plan)) {
+			return false;
+		}
+
+		for (IFabricatorRecipe recipe : planIndex.getCandidates(plan)) {
 			if (ItemStackUtil.isIdenticalItem(recipe.getPlan(), plan)) {
 				return true;
 			}
 		}
 
+		planIndex.markMiss(plan);
 		return false;
 	}
 
 	@Override
 	public boolean addRecipe(IFabricatorRecipe recipe) {
+		planIndex.invalidate();
 		return recipes.add(recipe);
 	}
 
 	@Override
 	public boolean removeRecipe(IFabricatorRecipe recipe) {
+		planIndex.invalidate();
 		return recipes.remove(recipe);
 	}
 
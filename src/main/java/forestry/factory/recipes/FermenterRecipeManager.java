@@ -24,11 +24,14 @@ import net.minecraftforge.fluids.FluidStack;
 
 import forestry.api.recipes.IFermenterManager;
 import forestry.api.recipes.IFermenterRecipe;
+import forestry.core.recipes.ItemRecipeIndex;
 import forestry.core.utils.ItemStackUtil;
 
 public class FermenterRecipeManager implements IFermenterManager {
 
 	private static final Set<IFermenterRecipe> recipes = new TreeSet<>();
+	// recipes with an ore dictionary resource are candidates for every item
+	private static final ItemRecipeIndex<IFermenterRecipe> recipeIndex = new ItemRecipeIndex<>(recipes, recipe -> recipe.getResourceOreName() == null ? Collections.singletonList(recipe.getResource()) : Collections.emptyList());
 	public static final Set<Fluid> recipeFluidInputs = new HashSet<>();
 	public static final Set<Fluid> recipeFluidOutputs = new HashSet<>();
 
@@ -59,7 +62,7 @@ public class FermenterRecipeManager implements IFermenterManager {
 		if (res.isEmpty()) {
 			return null;
 		}
-		for (IFermenterRecipe recipe : recipes) {
+		for (IFermenterRecipe recipe : recipeIndex.getCandidates(res)) {
 			if (matches(recipe, res, liqu)) {
 				return recipe;
 			}
@@ -78,15 +81,16 @@ public class FermenterRecipeManager implements IFermenterManager {
 	}
 
 	public static boolean isResource(ItemStack resource) {
-		if (resource.isEmpty()) {
+		if (resource.isEmpty() || recipeIndex.isKnownMiss(resource)) {
 			return false;
 		}
 
-		for (IFermenterRecipe recipe : recipes) {
+		for (IFermenterRecipe recipe : recipeIndex.getCandidates(resource)) {
 			if (ItemStackUtil.isCraftingEquivalent(recipe.getResource(), resource, recipe.getResourceOreName(), false)) {
 				return true;
 			}
 		}
+		recipeIndex.markMiss(resource);
 		return false;
 	}
 
@@ -98,6 +102,7 @@ public class FermenterRecipeManager implements IFermenterManager {
 		Fluid output = recipe.getOutput();
 		recipeFluidOutputs.add(output);
 
+		recipeIndex.invalidate();
 		return recipes.add(recipe);
 	}
 
@@ -109,6 +114,7 @@ public class FermenterRecipeManager implements IFermenterManager {
 		Fluid output = recipe.getOutput();
 		recipeFluidOutputs.remove(output);
 
+		recipeIndex.invalidate();
 		return recipes.remove(recipe);
 	}
 
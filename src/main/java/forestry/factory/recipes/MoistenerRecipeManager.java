@@ -19,11 +19,13 @@ import net.minecraft.item.ItemStack;
 
 import forestry.api.recipes.IMoistenerManager;
 import forestry.api.recipes.IMoistenerRecipe;
+import forestry.core.recipes.ItemRecipeIndex;
 import forestry.core.utils.ItemStackUtil;
 
 public class MoistenerRecipeManager implements IMoistenerManager {
 
 	private static final Set<IMoistenerRecipe> recipes = new HashSet<>();
+	private static final ItemRecipeIndex<IMoistenerRecipe> recipeIndex = new ItemRecipeIndex<>(recipes, recipe -> Collections.singletonList(recipe.getResource()));
 
 	@Override
 	public void addRecipe(ItemStack resource, ItemStack product, int timePerItem) {
@@ -36,7 +38,7 @@ public class MoistenerRecipeManager implements IMoistenerManager {
 			return false;
 		}
 
-		for (IMoistenerRecipe rec : recipes) {
+		for (IMoistenerRecipe rec : recipeIndex.getCandidates(resource)) {
 			if (ItemStackUtil.isIdenticalItem(resource, rec.getResource())) {
 				return true;
 			}
@@ -47,21 +49,27 @@ public class MoistenerRecipeManager implements IMoistenerManager {
 
 	@Nullable
 	public static IMoistenerRecipe findMatchingRecipe(ItemStack item) {
-		for (IMoistenerRecipe recipe : recipes) {
+		if (recipeIndex.isKnownMiss(item)) {
+			return null;
+		}
+		for (IMoistenerRecipe recipe : recipeIndex.getCandidates(item)) {
 			if (ItemStackUtil.isCraftingEquivalent(recipe.getResource(), item)) {
 				return recipe;
 			}
 		}
+		recipeIndex.markMiss(item);
 		return null;
 	}
 
 	@Override
 	public boolean addRecipe(IMoistenerRecipe recipe) {
+		recipeIndex.invalidate();
 		return recipes.add(recipe);
 	}
 
 	@Override
 	public boolean removeRecipe(IMoistenerRecipe recipe) {
+		recipeIndex.invalidate();
 		return recipes.remove(recipe);
 	}
 
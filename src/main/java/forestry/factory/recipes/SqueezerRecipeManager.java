@@ -13,22 +13,26 @@ package forestry.factory.recipes;
 import javax.annotation.Nullable;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.NonNullList;
 
 import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.oredict.OreDictionary;
 
 import forestry.api.recipes.ISqueezerManager;
 import forestry.api.recipes.ISqueezerRecipe;
 import forestry.core.fluids.FluidHelper;
+import forestry.core.recipes.ItemRecipeIndex;
 import forestry.core.utils.ItemStackUtil;
 import forestry.core.utils.datastructures.ItemStackMap;
 
 public class SqueezerRecipeManager implements ISqueezerManager {
 
 	private static final Set<ISqueezerRecipe> recipes = new HashSet<>();
+	private static final ItemRecipeIndex<ISqueezerRecipe> recipeIndex = new ItemRecipeIndex<>(recipes, ISqueezerRecipe::getResources);
 	public static final ItemStackMap<ISqueezerContainerRecipe> containerRecipes = new ItemStackMap<>();
 
 	@Override
@@ -58,6 +62,7 @@ public class SqueezerRecipeManager implements ISqueezerManager {
 
 	@Override
 	public void addContainerRecipe(int timePerItem, ItemStack emptyContainer, ItemStack remnants, float chance) {
+		recipeIndex.invalidate();
 		containerRecipes.put(emptyContainer, new SqueezerContainerRecipe(emptyContainer, timePerItem, remnants, chance));
 	}
 
@@ -83,7 +88,15 @@ public class SqueezerRecipeManager implements ISqueezerManager {
 			}
 		}
 
-		for (ISqueezerRecipe recipe : recipes) {
+		// every matching recipe is a candidate of each of its resources, so the candidates of all offered stacks are enough
+		Set<ISqueezerRecipe> candidates = new LinkedHashSet<>();
+		for (ItemStack itemStack : items) {
+			if (!itemStack.isEmpty()) {
+				candidates.addAll(recipeIndex.getCandidates(itemStack));
+			}
+		}
+
+		for (ISqueezerRecipe recipe : candidates) {
 			if (ItemStackUtil.containsSets(recipe.getResources(), items, false, false) > 0) {
 				return recipe;
 			}
@@ -93,6 +106,28 @@ public class SqueezerRecipeManager implements ISqueezerManager {
 	}
 
 	public static boolean canUse(ItemStack itemStack) {
+		if (itemStack.isEmpty() || recipeIndex.isKnownMiss(itemStack)) {
+			return false;
+		}
+
+		if (canUse(itemStack, recipeIndex.getCandidates(itemStack))) {
+			return true;
+		}
+
+		// resources may also be accepted by a shared ore dictionary name, which the index does not know about
+		if (OreDictionary.getOreIDs(itemStack).length > 0 && canUse(itemStack, recipes)) {
+			return true;
+		}
+
+		if (SqueezerRecipeManager.findMatchingContainerRecipe(itemStack) != null) {
+			return true;
+		}
+
+		recipeIndex.markMiss(itemStack);
+		return false;
+	}
+
+	private static boolean canUse(ItemStack itemStack, Iterable<ISqueezerRecipe> recipes) {
 		for (ISqueezerRecipe recipe : recipes) {
 			for (ItemStack recipeInput : recipe.getResources()) {
 				if (ItemStackUtil.isCraftingEquivalent(recipeInput, itemStack, true, false)) {
@@ -100,17 +135,18 @@ public class SqueezerRecipeManager implements ISqueezerManager {
 				}
 			}
 		}
-
-		return SqueezerRecipeManager.findMatchingContainerRecipe(itemStack) != null;
+		return false;
 	}
 
 	@Override
 	public boolean addRecipe(ISqueezerRecipe recipe) {
+		recipeIndex.invalidate();
 		return recipes.add(recipe);
 	}
 
 	@Override
 	public boolean removeRecipe(ISqueezerRecipe recipe) {
+		recipeIndex.invalidate();
 		return recipes.remove(recipe);
 	}
 
@@ -11,8 +11,12 @@
 package forestry.factory.recipes;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import net.minecraftforge.fluids.Fluid;
@@ -26,6 +30,11 @@ public class StillRecipeManager implements IStillManager {
 	private static final Set<IStillRecipe> recipes = new HashSet<>();
 	public static final Set<Fluid> recipeFluidInputs = new HashSet<>();
 	public static final Set<Fluid> recipeFluidOutputs = new HashSet<>();
+	/**
+	 * Recipes by input fluid, built on first use and dropped whenever a recipe is added or removed.
+	 */
+	@Nullable
+	private static volatile Map<Fluid, List<IStillRecipe>> recipesByFluid;
 
 	@Override
 	public void addRecipe(int timePerUnit, FluidStack input, FluidStack output) {
@@ -38,7 +47,11 @@ public class StillRecipeManager implements IStillManager {
 		if (item == null) {
 			return null;
 		}
-		for (IStillRecipe recipe : recipes) {
+		List<IStillRecipe> candidates = getRecipesByFluid().get(item.getFluid());
+		if (candidates == null) {
+			return null;
+		}
+		for (IStillRecipe recipe : candidates) {
 			if (matches(recipe, item)) {
 				return recipe;
 			}
@@ -46,6 +59,18 @@ public class StillRecipeManager implements IStillManager {
 		return null;
 	}
 
+	private static Map<Fluid, List<IStillRecipe>> getRecipesByFluid() {
+		Map<Fluid, List<IStillRecipe>> recipesByFluid = StillRecipeManager.recipesByFluid;
+		if (recipesByFluid == null) {
+			recipesByFluid = new HashMap<>();
+			for (IStillRecipe recipe : recipes) {
+				recipesByFluid.computeIfAbsent(recipe.getInput().getFluid(), k -> new ArrayList<>()).add(recipe);
+			}
+			StillRecipeManager.recipesByFluid = recipesByFluid;
+		}
+		return recipesByFluid;
+	}
+
 	public static boolean matches(@Nullable IStillRecipe recipe, @Nullable FluidStack item) {
 		if (recipe == null || item == null) {
 			return false;
@@ -61,6 +86,7 @@ public class StillRecipeManager implements IStillManager {
 		FluidStack output = recipe.getOutput();
 		recipeFluidOutputs.add(output.getFluid());
 
+		recipesByFluid = null;
 		return recipes.add(recipe);
 	}
 
@@ -72,6 +98,7 @@ public class StillRecipeManager implements IStillManager {
 		FluidStack output = recipe.getOutput();
 		recipeFluidOutputs.remove(output.getFluid());
 
+		recipesByFluid = null;
 		return recipes.remove(recipe);
 	}
 
@@ -40,14 +40,17 @@ import forestry.core.fluids.FluidHelper;
 import forestry.core.fluids.TankManager;
 import forestry.core.inventory.InventoryAdapterTile;
 import forestry.core.inventory.InventoryGhostCrafting;
+import forestry.core.inventory.watchers.ISlotChangeWatcher;
 import forestry.core.inventory.wrappers.InventoryMapper;
 import forestry.core.network.PacketBufferForestry;
+import forestry.core.recipes.RecipeLookupStatistics;
 import forestry.core.recipes.RecipePair;
 import forestry.core.render.TankRenderInfo;
 import forestry.core.tiles.IItemStackDisplay;
 import forestry.core.tiles.ILiquidTankTile;
 import forestry.core.tiles.TilePowered;
 import forestry.core.utils.InventoryUtil;
+import forestry.factory.MachineUIDs;
 import forestry.factory.gui.ContainerCarpenter;
 import forestry.factory.gui.GuiCarpenter;
 import forestry.factory.inventory.InventoryCarpenter;
@@ -65,6 +68,8 @@ public class TileCarpenter extends TilePowered implements ISidedInventory, ILiqu
 
 	@Nullable
 	private ICarpenterRecipe currentRecipe;
+	// set when the crafting grid, the box slot or the resource tank changes, the recipe is only checked again after that
+	private boolean recipeDirty = true;
 	private NonNullList<String> oreDicts;
 
 	private ItemStack getBoxStack() {
@@ -77,10 +82,18 @@ public class TileCarpenter extends TilePowered implements ISidedInventory, ILiqu
 		resourceTank = new FilteredTank(Constants.PROCESSOR_TANK_CAPACITY).setFilters(CarpenterRecipeManager.getRecipeFluids());
 
 		craftingInventory = new InventoryGhostCrafting<>(this, 10);
+		craftingInventory.addSlotChangeWatcher((changedInventory, slot) -> recipeDirty = true);
 		craftPreviewInventory = new InventoryCraftResult();
-		setInternalInventory(new InventoryCarpenter(this));
+		InventoryCarpenter inventory = new InventoryCarpenter(this);
+		inventory.addSlotChangeWatcher((changedInventory, slot) -> {
+			if (slot == ISlotChangeWatcher.ALL_SLOTS || slot == InventoryCarpenter.SLOT_BOX) {
+				recipeDirty = true;
+			}
+		});
+		setInternalInventory(inventory);
 
 		tankManager = new TankManager(this, resourceTank);
+		tankManager.addTankChangeWatcher(tank -> recipeDirty = true);
 	}
 
 	/* LOADING & SAVING */
@@ -118,8 +131,14 @@ public class TileCarpenter extends TilePowered implements ISidedInventory, ILiqu
 		if (world.isRemote) {
 			return;
 		}
+		if (!recipeDirty) {
+			RecipeLookupStatistics.onLookupSkipped(MachineUIDs.CARPENTER);
+			return;
+		}
+		recipeDirty = false;
 
 		if (CarpenterRecipeManager.matches(currentRecipe, resourceTank.getFluid(), getBoxStack(), craftingInventory) == null) {
+			RecipeLookupStatistics.onLookup(MachineUIDs.CARPENTER);
 			RecipePair<ICarpenterRecipe> recipePair = CarpenterRecipeManager.findMatchingRecipe(resourceTank.getFluid(), getBoxStack(), craftingInventory);
 			currentRecipe = recipePair.getRecipe();
 			oreDicts = recipePair.getOreDictEntries();
@@ -201,6 +220,11 @@ public class TileCarpenter extends TilePowered implements ISidedInventory, ILiqu
 		return InventoryUtil.removeSets(inventory, 1, craftingSets, oreDicts, null, true, false, doRemove);
 	}
 
+	@Override
+	protected boolean canSleep() {
+		return getStackInSlot(InventoryCarpenter.SLOT_CAN_INPUT).isEmpty();
+	}
+
 	/* STATE INFORMATION */
 	@Override
 	public boolean hasWork() {
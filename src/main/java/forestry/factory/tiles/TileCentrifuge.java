@@ -43,10 +43,13 @@ import forestry.core.config.Constants;
 import forestry.core.errors.EnumErrorCode;
 import forestry.core.inventory.IInventoryAdapter;
 import forestry.core.inventory.InventoryAdapter;
+import forestry.core.inventory.watchers.ISlotChangeWatcher;
 import forestry.core.network.PacketBufferForestry;
+import forestry.core.recipes.RecipeLookupStatistics;
 import forestry.core.tiles.IItemStackDisplay;
 import forestry.core.tiles.TilePowered;
 import forestry.core.utils.InventoryUtil;
+import forestry.factory.MachineUIDs;
 import forestry.factory.gui.ContainerCentrifuge;
 import forestry.factory.gui.GuiCentrifuge;
 import forestry.factory.inventory.InventoryCentrifuge;
@@ -64,12 +67,20 @@ public class TileCentrifuge extends TilePowered implements ISocketable, ISidedIn
 	private final InventoryCraftResult craftPreviewInventory;
 	@Nullable
 	private ICentrifugeRecipe currentRecipe;
+	// set when the resource slot changes, the recipe is only checked again after that
+	private boolean recipeDirty = true;
 
 	private final Stack<ItemStack> pendingProducts = new Stack<>();
 
 	public TileCentrifuge() {
 		super(800, Constants.MACHINE_MAX_ENERGY);
-		setInternalInventory(new InventoryCentrifuge(this));
+		InventoryCentrifuge inventory = new InventoryCentrifuge(this);
+		inventory.addSlotChangeWatcher((changedInventory, slot) -> {
+			if (slot == ISlotChangeWatcher.ALL_SLOTS || slot == InventoryCentrifuge.SLOT_RESOURCE) {
+				recipeDirty = true;
+			}
+		});
+		setInternalInventory(inventory);
 		craftPreviewInventory = new InventoryCraftResult();
 	}
 
@@ -157,7 +168,14 @@ public class TileCentrifuge extends TilePowered implements ISocketable, ISidedIn
 	}
 
 	private void checkRecipe() {
+		if (!recipeDirty) {
+			RecipeLookupStatistics.onLookupSkipped(MachineUIDs.CENTRIFUGE);
+			return;
+		}
+		recipeDirty = false;
+
 		ItemStack resource = getStackInSlot(InventoryCentrifuge.SLOT_RESOURCE);
+		RecipeLookupStatistics.onLookup(MachineUIDs.CENTRIFUGE);
 		ICentrifugeRecipe matchingRecipe = CentrifugeRecipeManager.findMatchingRecipe(resource);
 
 		if (currentRecipe != matchingRecipe) {
@@ -200,6 +218,11 @@ public class TileCentrifuge extends TilePowered implements ISocketable, ISidedIn
 		return (float) inventory.getStackInSlot(InventoryCentrifuge.SLOT_RESOURCE).getCount() / (float) inventory.getStackInSlot(InventoryCentrifuge.SLOT_RESOURCE).getMaxStackSize() > percentage;
 	}
 
+	@Override
+	protected boolean canSleep() {
+		return true;
+	}
+
 	@Override
 	public boolean hasWork() {
 		if (!pendingProducts.isEmpty()) {
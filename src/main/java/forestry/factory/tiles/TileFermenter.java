@@ -44,10 +44,13 @@ import forestry.core.errors.EnumErrorCode;
 import forestry.core.fluids.FilteredTank;
 import forestry.core.fluids.FluidHelper;
 import forestry.core.fluids.TankManager;
+import forestry.core.inventory.watchers.ISlotChangeWatcher;
 import forestry.core.network.PacketBufferForestry;
+import forestry.core.recipes.RecipeLookupStatistics;
 import forestry.core.render.TankRenderInfo;
 import forestry.core.tiles.ILiquidTankTile;
 import forestry.core.tiles.TilePowered;
+import forestry.factory.MachineUIDs;
 import forestry.factory.gui.ContainerFermenter;
 import forestry.factory.gui.GuiFermenter;
 import forestry.factory.inventory.InventoryFermenter;
@@ -63,6 +66,8 @@ public class TileFermenter extends TilePowered implements ISidedInventory, ILiqu
 
 	@Nullable
 	private IFermenterRecipe currentRecipe;
+	// set when the resource slot or the resource tank changes, a new recipe is only looked up after that
+	private boolean recipeDirty = true;
 	private float currentResourceModifier;
 	private int fermentationTime = 0;
 	private int fermentationTotalTime = 0;
@@ -73,7 +78,13 @@ public class TileFermenter extends TilePowered implements ISidedInventory, ILiqu
 	public TileFermenter() {
 		super(2000, 8000);
 		setEnergyPerWorkCycle(4200);
-		setInternalInventory(new InventoryFermenter(this));
+		InventoryFermenter inventory = new InventoryFermenter(this);
+		inventory.addSlotChangeWatcher((changedInventory, slot) -> {
+			if (slot == ISlotChangeWatcher.ALL_SLOTS || slot == InventoryFermenter.SLOT_RESOURCE) {
+				recipeDirty = true;
+			}
+		});
+		setInternalInventory(inventory);
 
 		resourceTank = new FilteredTank(Constants.PROCESSOR_TANK_CAPACITY, true, false);
 		resourceTank.setFilters(FermenterRecipeManager.recipeFluidInputs);
@@ -82,6 +93,11 @@ public class TileFermenter extends TilePowered implements ISidedInventory, ILiqu
 		productTank.setFilters(FermenterRecipeManager.recipeFluidOutputs);
 
 		tankManager = new TankManager(this, resourceTank, productTank);
+		tankManager.addTankChangeWatcher(tank -> {
+			if (tank == resourceTank) {
+				recipeDirty = true;
+			}
+		});
 	}
 
 	@Override
@@ -158,6 +174,7 @@ public class TileFermenter extends TilePowered implements ISidedInventory, ILiqu
 		}
 
 		currentRecipe = null;
+		recipeDirty = true;
 		return true;
 	}
 
@@ -165,11 +182,17 @@ public class TileFermenter extends TilePowered implements ISidedInventory, ILiqu
 		if (currentRecipe != null) {
 			return;
 		}
+		if (!recipeDirty) {
+			RecipeLookupStatistics.onLookupSkipped(MachineUIDs.FERMENTER);
+			return;
+		}
+		recipeDirty = false;
 
 		ItemStack resource = getStackInSlot(InventoryFermenter.SLOT_RESOURCE);
 		FluidStack fluid = resourceTank.getFluid();
 
 		if (fluid != null) {
+			RecipeLookupStatistics.onLookup(MachineUIDs.FERMENTER);
 			currentRecipe = FermenterRecipeManager.findMatchingRecipe(resource, fluid);
 		}
 
@@ -42,11 +42,14 @@ import forestry.core.errors.EnumErrorCode;
 import forestry.core.fluids.StandardTank;
 import forestry.core.fluids.TankManager;
 import forestry.core.inventory.InventoryAdapter;
+import forestry.core.inventory.watchers.ISlotChangeWatcher;
 import forestry.core.network.PacketBufferForestry;
+import forestry.core.recipes.RecipeLookupStatistics;
 import forestry.core.render.TankRenderInfo;
 import forestry.core.tiles.ILiquidTankTile;
 import forestry.core.tiles.TilePowered;
 import forestry.core.utils.ItemStackUtil;
+import forestry.factory.MachineUIDs;
 import forestry.factory.gui.ContainerSqueezer;
 import forestry.factory.gui.GuiSqueezer;
 import forestry.factory.inventory.InventorySqueezer;
@@ -64,10 +67,17 @@ public class TileSqueezer extends TilePowered implements ISocketable, ISidedInve
 	private final InventorySqueezer inventory;
 	@Nullable
 	private ISqueezerRecipe currentRecipe;
+	// set when a resource slot changes, the recipe is only checked again after that
+	private boolean recipeDirty = true;
 
 	public TileSqueezer() {
 		super(1100, Constants.MACHINE_MAX_ENERGY);
 		this.inventory = new InventorySqueezer(this);
+		this.inventory.addSlotChangeWatcher((changedInventory, slot) -> {
+			if (slot == ISlotChangeWatcher.ALL_SLOTS || (slot >= InventorySqueezer.SLOT_RESOURCE_1 && slot < InventorySqueezer.SLOT_RESOURCE_1 + InventorySqueezer.SLOTS_RESOURCE_COUNT)) {
+				recipeDirty = true;
+			}
+		});
 		setInternalInventory(this.inventory);
 		this.productTank = new StandardTank(Constants.PROCESSOR_TANK_CAPACITY, false, true);
 		this.tankManager = new TankManager(this, productTank);
@@ -158,6 +168,12 @@ public class TileSqueezer extends TilePowered implements ISocketable, ISidedInve
 	}
 
 	private boolean checkRecipe() {
+		if (!recipeDirty) {
+			RecipeLookupStatistics.onLookupSkipped(MachineUIDs.SQUEEZER);
+			return currentRecipe != null;
+		}
+		recipeDirty = false;
+
 		ISqueezerRecipe matchingRecipe = null;
 		if (inventory.hasResources()) {
 			NonNullList<ItemStack> resources = inventory.getResources();
@@ -165,6 +181,7 @@ public class TileSqueezer extends TilePowered implements ISocketable, ISidedInve
 			if (currentRecipe != null && ItemStackUtil.containsSets(currentRecipe.getResources(), resources, true, false) > 0) {
 				matchingRecipe = currentRecipe;
 			} else {
+				RecipeLookupStatistics.onLookup(MachineUIDs.SQUEEZER);
 				matchingRecipe = SqueezerRecipeManager.findMatchingRecipe(resources);
 			}
 		}
@@ -182,6 +199,11 @@ public class TileSqueezer extends TilePowered implements ISocketable, ISidedInve
 		return currentRecipe != null;
 	}
 
+	@Override
+	protected boolean canSleep() {
+		return getStackInSlot(InventorySqueezer.SLOT_CAN_INPUT).isEmpty();
+	}
+
 	@Override
 	public boolean hasWork() {
 		checkRecipe();
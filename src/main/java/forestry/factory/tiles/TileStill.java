@@ -146,6 +146,11 @@ public class TileStill extends TilePowered implements ISidedInventory, ILiquidTa
 		}
 	}
 
+	@Override
+	protected boolean canSleep() {
+		return getStackInSlot(InventoryStill.SLOT_CAN).isEmpty() && getStackInSlot(InventoryStill.SLOT_RESOURCE).isEmpty();
+	}
+
 	@Override
 	public boolean hasWork() {
 		checkRecipe();
@@ -89,6 +89,7 @@ import forestry.farming.logic.farmables.FarmableStacked;
 import forestry.farming.logic.farmables.FarmableVanillaMushroom;
 import forestry.farming.logic.farmables.FarmableVanillaSapling;
 import forestry.farming.models.EnumFarmBlockTexture;
+import forestry.farming.multiblock.FarmAreaEventHandler;
 import forestry.farming.proxy.ProxyFarming;
 import forestry.farming.tiles.TileFarmControl;
 import forestry.farming.tiles.TileFarmGearbox;
@@ -136,6 +137,7 @@ public class ModuleFarming extends BlankForestryModule {
 		BlockRegistryFarming blocks = getBlocks();
 
 		MinecraftForge.EVENT_BUS.register(this);
+		MinecraftForge.EVENT_BUS.register(new FarmAreaEventHandler());
 		IFarmRegistry registry = ForestryAPI.farmRegistry;
 
 		registry.registerFarmables(ForestryFarmIdentifier.ARBOREAL, new FarmableVanillaSapling());
@@ -15,10 +15,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.Stack;
 
 import net.minecraft.block.state.IBlockState;
@@ -34,6 +32,10 @@ import forestry.api.farming.IFarmHousing;
 import forestry.api.farming.IFarmProperties;
 import forestry.api.farming.IFarmable;
 
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+
 public class FarmLogicArboreal extends FarmLogicHomogeneous {
 
 	@Nullable
@@ -107,27 +109,39 @@ public class FarmLogicArboreal extends FarmLogicHomogeneous {
 		}
 
 		// get all crops of the same type that are connected to the first one
-		Stack<BlockPos> knownCropPositions = new Stack<>();
-		knownCropPositions.add(position);
+		// positions are packed into longs and only crop positions are turned into immutable BlockPos
+		LongArrayList knownCropPositions = new LongArrayList();
+		knownCropPositions.add(position.toLong());
 
-		Set<BlockPos> checkedBlocks = new HashSet<>();
+		LongSet checkedBlocks = new LongOpenHashSet();
+		BlockPos.MutableBlockPos candidate = new BlockPos.MutableBlockPos();
 		Stack<ICrop> crops = new Stack<>();
 
-		while (!knownCropPositions.empty()) {
-			BlockPos knownCropPos = knownCropPositions.pop();
-			for (BlockPos candidate : BlockPos.getAllInBox(knownCropPos.add(-1, -1, -1), knownCropPos.add(1, 1, 1))) {
-				if (!world.isBlockLoaded(candidate)) {
-					return crops;
-				}
-
-				if (!checkedBlocks.contains(candidate)) {
-					checkedBlocks.add(candidate);
-
-					IBlockState blockState = world.getBlockState(candidate);
-					ICrop crop = farmable.getCropAt(world, candidate, blockState);
-					if (crop != null) {
-						crops.push(crop);
-						knownCropPositions.push(candidate);
+		while (!knownCropPositions.isEmpty()) {
+			BlockPos knownCropPos = BlockPos.fromLong(knownCropPositions.removeLong(knownCropPositions.size() - 1));
+			for (int z = knownCropPos.getZ() - 1; z <= knownCropPos.getZ() + 1; z++) {
+				for (int y = knownCropPos.getY() - 1; y <= knownCropPos.getY() + 1; y++) {
+					for (int x = knownCropPos.getX() - 1; x <= knownCropPos.getX() + 1; x++) {
+						candidate.setPos(x, y, z);
+						if (!world.isBlockLoaded(candidate)) {
+							return crops;
+						}
+
+						if (!checkedBlocks.add(candidate.toLong())) {
+							continue;
+						}
+
+						IBlockState blockState = world.getBlockState(candidate);
+						if (blockState.getBlock().isAir(blockState, world, candidate)) {
+							continue;
+						}
+
+						BlockPos cropPos = candidate.toImmutable();
+						ICrop crop = farmable.getCropAt(world, cropPos, blockState);
+						if (crop != null) {
+							crops.push(crop);
+							knownCropPositions.add(cropPos.toLong());
+						}
 					}
 				}
 			}
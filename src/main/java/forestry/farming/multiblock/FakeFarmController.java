@@ -61,6 +61,11 @@ public class FakeFarmController extends FakeMultiblockController implements IFar
 		return false;
 	}
 
+	@Override
+	public boolean hasPendingWork() {
+		return false;
+	}
+
 	@Override
 	public boolean hasLiquid(FluidStack liquid) {
 		return false;
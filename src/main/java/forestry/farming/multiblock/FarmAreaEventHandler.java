@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.farming.multiblock;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+
+import forestry.core.utils.WorldEventListenerAdapter;
+
+/**
+ * Tells the farms of a server world about block changes and chunk loads around them, so they only rebuild their
+ * farmland targets when the platform may have changed.
+ */
+public class FarmAreaEventHandler {
+	private static final Map<World, Set<FarmController>> farms = new WeakHashMap<>();
+
+	static void watch(World world, FarmController farm) {
+		farms.computeIfAbsent(world, k -> Collections.newSetFromMap(new WeakHashMap<>())).add(farm);
+	}
+
+	static void unwatch(World world, FarmController farm) {
+		Set<FarmController> worldFarms = farms.get(world);
+		if (worldFarms != null) {
+			worldFarms.remove(farm);
+		}
+	}
+
+	@Nullable
+	private static Set<FarmController> getFarms(World world) {
+		Set<FarmController> worldFarms = farms.get(world);
+		if (worldFarms == null || worldFarms.isEmpty()) {
+			return null;
+		}
+		return worldFarms;
+	}
+
+	@SubscribeEvent
+	public void onWorldLoad(WorldEvent.Load event) {
+		World world = event.getWorld();
+		if (!world.isRemote) {
+			world.addEventListener(new BlockChangeListener());
+		}
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event) {
+		farms.remove(event.getWorld());
+	}
+
+	@SubscribeEvent
+	public void onChunkLoad(ChunkEvent.Load event) {
+		Set<FarmController> worldFarms = getFarms(event.getWorld());
+		if (worldFarms != null) {
+			Chunk chunk = event.getChunk();
+			for (FarmController farm : new ArrayList<>(worldFarms)) {
+				farm.onChunkLoaded(chunk.x, chunk.z);
+			}
+		}
+	}
+
+	private static class BlockChangeListener extends WorldEventListenerAdapter {
+		@Override
+		public void notifyBlockUpdate(World world, BlockPos pos, IBlockState oldState, IBlockState newState, int flags) {
+			if (oldState == newState) {
+				return;
+			}
+			Set<FarmController> worldFarms = getFarms(world);
+			if (worldFarms != null) {
+				for (FarmController farm : worldFarms) {
+					farm.onBlockChanged(pos, oldState, newState);
+				}
+			}
+		}
+	}
+}
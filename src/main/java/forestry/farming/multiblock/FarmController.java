@@ -19,6 +19,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
@@ -107,8 +108,22 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 	// the number of work ticks that this farm has had no power
 	private int noPowerTime = 0;
 
-	// tick updates can come from multiple gearboxes so keep track of them here
-	private int farmWorkTicks = 0;
+	// farmland targets are only rebuilt after the farm or the platform around it changed
+	private boolean targetsDirty = true;
+	private int minWatchedX;
+	private int maxWatchedX;
+	private int minWatchedY;
+	private int maxWatchedY;
+	private int minWatchedZ;
+	private int maxWatchedZ;
+
+	// work that did not fit into the time budget of a work cycle continues in the next one
+	private final Set<FarmDirection> finishedDirections = EnumSet.noneOf(FarmDirection.class);
+	@Nullable
+	private FarmDirection resumeDirection;
+	private int resumeTargetIndex;
+	@Nullable
+	private FarmWorkStatus resumeWorkStatus;
 
 	@Nullable
 	private Vec3i offset;
@@ -166,6 +181,8 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 		if (newPart instanceof IFarmComponent.Active) {
 			farmActiveComponents.put((IFarmComponent.Active) newPart, world.rand.nextInt(256));
 		}
+
+		targetsDirty = true;
 	}
 
 	@Override
@@ -178,6 +195,8 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 		if (oldPart instanceof IFarmComponent.Active) {
 			farmActiveComponents.remove(oldPart);
 		}
+
+		targetsDirty = true;
 	}
 
 	@Override
@@ -201,6 +220,8 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 	protected void onMachineDisassembled() {
 		super.onMachineDisassembled();
 		targets.clear();
+		targetsDirty = true;
+		FarmAreaEventHandler.unwatch(world, this);
 	}
 
 	@Override
@@ -224,7 +245,7 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 
 	@Override
 	public void onAssimilated(IMultiblockControllerInternal assimilator) {
-
+		FarmAreaEventHandler.unwatch(world, this);
 	}
 
 	@Override
@@ -399,10 +420,14 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 		return "for.multiblock.farm.type";
 	}
 
+	@Override
+	public boolean hasPendingWork() {
+		return resumeWorkStatus != null;
+	}
+
 	@Override
 	public boolean doWork() {
-		farmWorkTicks++;
-		if (targets.isEmpty() || farmWorkTicks % 20 == 0) {
+		if (targetsDirty) {
 			setUpFarmlandTargets();
 		}
 
@@ -431,22 +456,38 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 		}
 
 		// Cultivation and collection
-		FarmWorkStatus farmWorkStatus = new FarmWorkStatus();
+		long deadline = getWorkDeadline();
+		FarmWorkStatus farmWorkStatus = resumeWorkStatus != null ? resumeWorkStatus : new FarmWorkStatus();
+		resumeWorkStatus = null;
 
 		List<FarmDirection> farmDirections = Arrays.asList(FarmDirection.values());
 		Collections.shuffle(farmDirections, world.rand);
+		FarmDirection resumedDirection = resumeDirection;
+		int firstTarget = resumeTargetIndex;
+		if (resumedDirection != null) {
+			Collections.swap(farmDirections, farmDirections.indexOf(resumedDirection), 0);
+			resumeDirection = null;
+		}
+
 		for (FarmDirection farmSide : farmDirections) {
+			if (finishedDirections.contains(farmSide)) {
+				continue;
+			}
+
 			IFarmLogic logic = getFarmLogic(farmSide);
 
-			// Always try to collect windfall.
-			if (collectWindfall(logic)) {
-				farmWorkStatus.didWork = true;
+			// Always try to collect windfall, unless this side was started in the last work cycle.
+			if (farmSide != resumedDirection) {
+				firstTarget = 0;
+				if (collectWindfall(logic)) {
+					farmWorkStatus.didWork = true;
+				}
 			}
 
 			List<FarmTarget> farmTargets = targets.get(farmSide);
 
 			if (stage == Stage.HARVEST) {
-				Collection<ICrop> harvested = FarmHelper.harvestTargets(world, farmTargets, logic, farmListeners);
+				Collection<ICrop> harvested = harvestTargets(farmTargets, firstTarget, logic, farmSide, deadline);
 				farmWorkStatus.didWork = !harvested.isEmpty();
 				if (!harvested.isEmpty()) {
 					pendingCrops.addAll(harvested);
@@ -454,13 +495,21 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 					harvestProvider = logic;
 				}
 			} else if (stage == Stage.CULTIVATE) {
-				farmWorkStatus = cultivateTargets(farmWorkStatus, farmTargets, logic, farmSide);
+				farmWorkStatus = cultivateTargets(farmWorkStatus, farmTargets, firstTarget, logic, farmSide, deadline);
 			}
 
+			if (resumeDirection != null) {
+				// Out of time, this side is continued in the next work cycle.
+				resumeWorkStatus = farmWorkStatus;
+				return farmWorkStatus.didWork;
+			}
+			finishedDirections.add(farmSide);
+
 			if (farmWorkStatus.didWork) {
 				break;
 			}
 		}
+		finishedDirections.clear();
 
 		if (stage == Stage.CULTIVATE) {
 			errorLogic.setCondition(!farmWorkStatus.hasFarmland, EnumErrorCode.NO_FARMLAND);
@@ -488,9 +537,87 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 
 		FarmHelper.createTargets(world, this, targets, targetStart, allowedExtent, sizeNorthSouth, sizeEastWest, min, max);
 		FarmHelper.setExtents(world, this, targets);
+
+		// Targets reach sideways past the farm corners, the platform is searched a few blocks above and below the start.
+		int margin = allowedExtent + Math.max(sizeNorthSouth, sizeEastWest) + 1;
+		minWatchedX = min.getX() - margin;
+		maxWatchedX = max.getX() + margin;
+		minWatchedZ = min.getZ() - margin;
+		maxWatchedZ = max.getZ() + margin;
+		minWatchedY = targetStart.getY() - 3;
+		maxWatchedY = targetStart.getY() + 2;
+
+		targetsDirty = false;
+		FarmAreaEventHandler.watch(world, this);
+
+		// Target indices of unfinished work do not match the new targets.
+		finishedDirections.clear();
+		resumeDirection = null;
+		resumeWorkStatus = null;
+	}
+
+	/**
+	 * Called for every block change in the world of this farm. Only changes to the platform can change the targets.
+	 */
+	void onBlockChanged(BlockPos pos, IBlockState oldState, IBlockState newState) {
+		if (targetsDirty || pos.getY() < minWatchedY || pos.getY() > maxWatchedY || !isWatchedColumn(pos.getX(), pos.getZ())) {
+			return;
+		}
+		if (FarmHelper.bricks.contains(oldState.getBlock()) != FarmHelper.bricks.contains(newState.getBlock())) {
+			targetsDirty = true;
+		}
+	}
+
+	/**
+	 * Targets stop at unloaded blocks, so they have to be rebuilt once a chunk around the farm loads.
+	 */
+	void onChunkLoaded(int chunkX, int chunkZ) {
+		int minX = chunkX << 4;
+		int minZ = chunkZ << 4;
+		if (minX <= maxWatchedX && minX + 15 >= minWatchedX && minZ <= maxWatchedZ && minZ + 15 >= minWatchedZ) {
+			targetsDirty = true;
+		}
+	}
+
+	private boolean isWatchedColumn(int x, int z) {
+		return x >= minWatchedX && x <= maxWatchedX && z >= minWatchedZ && z <= maxWatchedZ;
+	}
+
+	private static long getWorkDeadline() {
+		if (Config.farmWorkBudget <= 0) {
+			return Long.MAX_VALUE;
+		}
+		return System.nanoTime() + Config.farmWorkBudget * 1000L;
+	}
+
+	/**
+	 * Remembers where to continue if the work cycle ran out of time before the last target of this side.
+	 *
+	 * @return true if the remaining targets have to wait for the next work cycle.
+	 */
+	private boolean carryOverIfOutOfTime(long deadline, FarmDirection farmSide, int nextTarget, int targetCount) {
+		if (nextTarget >= targetCount || System.nanoTime() <= deadline) {
+			return false;
+		}
+		resumeDirection = farmSide;
+		resumeTargetIndex = nextTarget;
+		return true;
 	}
 
-	private FarmWorkStatus cultivateTargets(FarmWorkStatus farmWorkStatus, List<FarmTarget> farmTargets, IFarmLogic logic, FarmDirection farmSide) {
+	private Collection<ICrop> harvestTargets(List<FarmTarget> farmTargets, int firstTarget, IFarmLogic logic, FarmDirection farmSide, long deadline) {
+		for (int i = firstTarget; i < farmTargets.size(); i++) {
+			Collection<ICrop> harvested = FarmHelper.harvestTarget(world, farmTargets.get(i), logic, farmListeners);
+			if (!harvested.isEmpty()) {
+				return harvested;
+			}
+			if (carryOverIfOutOfTime(deadline, farmSide, i + 1, farmTargets.size())) {
+				break;
+			}
+		}
+		return Collections.emptyList();
+	}
+
+	private FarmWorkStatus cultivateTargets(FarmWorkStatus farmWorkStatus, List<FarmTarget> farmTargets, int firstTarget, IFarmLogic logic, FarmDirection farmSide, long deadline) {
 		boolean hasFarmland = false;
 		for (FarmTarget target : farmTargets) {
 			if (target.getExtent() > 0) {
@@ -506,7 +633,8 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 			final int liquidConsumption = logic.getWaterConsumption(hydrationModifier);
 			final FluidStack liquid = new FluidStack(FluidRegistry.WATER, liquidConsumption);
 
-			for (FarmTarget target : farmTargets) {
+			for (int i = firstTarget; i < farmTargets.size(); i++) {
+				FarmTarget target = farmTargets.get(i);
 				// Check fertilizer and water
 				if (!fertilizerManager.hasFertilizer(inventory, fertilizerConsumption)) {
 					farmWorkStatus.hasFertilizer = false;
@@ -525,6 +653,10 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 
 					farmWorkStatus.didWork = true;
 				}
+
+				if (carryOverIfOutOfTime(deadline, farmSide, i + 1, farmTargets.size())) {
+					break;
+				}
 			}
 		}
 
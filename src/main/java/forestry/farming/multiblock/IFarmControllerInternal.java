@@ -26,4 +26,9 @@ public interface IFarmControllerInternal extends IFarmController, IMultiblockCon
 	IInventoryAdapter getInternalInventory();
 
 	ITankManager getTankManager();
+
+	/**
+	 * @return true if the last call of {@link #doWork()} ran out of time and continues its work in the next call.
+	 */
+	boolean hasPendingWork();
 }
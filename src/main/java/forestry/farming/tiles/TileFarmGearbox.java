@@ -18,9 +18,9 @@ import net.minecraft.util.EnumFacing;
 import net.minecraftforge.common.capabilities.Capability;
 
 import forestry.api.multiblock.IFarmComponent;
-import forestry.api.multiblock.IFarmController;
 import forestry.energy.EnergyHelper;
 import forestry.energy.EnergyManager;
+import forestry.farming.multiblock.IFarmControllerInternal;
 
 public class TileFarmGearbox extends TileFarm implements IFarmComponent.Active {
 
@@ -75,11 +75,11 @@ public class TileFarmGearbox extends TileFarm implements IFarmComponent.Active {
 		}
 
 		if (workCounter >= WORK_CYCLES && tickCount % 5 == 0) {
-			IFarmController farmController = getMultiblockLogic().getController();
+			IFarmControllerInternal farmController = getMultiblockLogic().getController();
 			if (farmController.doWork()) {
 				workCounter = 0;
 				previousDelays = 0;
-			} else {
+			} else if (!farmController.hasPendingWork()) {
 				// If the central TE doesn't have work, we add to the activation delay to throttle the CPU usage.
 				activationDelay = 10 * previousDelays < 120 ? 10 * previousDelays : 120;
 				previousDelays++; // First delay is free!
@@ -64,6 +64,7 @@ import forestry.core.utils.Log;
 import forestry.core.utils.Translator;
 import forestry.lepidopterology.blocks.BlockRegistryLepidopterology;
 import forestry.lepidopterology.commands.CommandButterfly;
+import forestry.lepidopterology.entities.ButterflyEnvironmentCache;
 import forestry.lepidopterology.entities.EntityButterfly;
 import forestry.lepidopterology.genetics.ButterflyBranchDefinition;
 import forestry.lepidopterology.genetics.ButterflyDefinition;
@@ -133,6 +134,7 @@ public class ModuleLepidopterology extends BlankForestryModule {
 	@Override
 	public void preInit() {
 		MinecraftForge.EVENT_BUS.register(this);
+		MinecraftForge.EVENT_BUS.register(new ButterflyEnvironmentCache.EventHandler());
 		ButterflyBranchDefinition.createAlleles();
 		ButterflyAlleles.registerEffectAlleles();
 
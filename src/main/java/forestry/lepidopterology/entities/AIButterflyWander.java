@@ -11,6 +11,11 @@
 package forestry.lepidopterology.entities;
 
 public class AIButterflyWander extends AIButterflyMovement {
+	/**
+	 * Butterflies without a player in this range only look for a new destination on every fourth try.
+	 */
+	private static final double ACTIVE_RANGE = 64.0;
+	private static final int IDLE_TRY_CHANCE = 4;
 
 	public AIButterflyWander(EntityButterfly entity) {
 		super(entity);
@@ -22,6 +27,9 @@ public class AIButterflyWander extends AIButterflyMovement {
 		if (entity.getDestination() != null) {
 			return false;
 		}
+		if (entity.getRNG().nextInt(IDLE_TRY_CHANCE) != 0 && !entity.world.isAnyPlayerWithinRangeAt(entity.posX, entity.posY, entity.posZ, ACTIVE_RANGE)) {
+			return false;
+		}
 
 		flightTarget = getRandomDestination();
 		if (flightTarget == null) {
@@ -0,0 +1,221 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.lepidopterology.entities;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockFence;
+import net.minecraft.block.BlockFlower;
+import net.minecraft.block.BlockWall;
+import net.minecraft.block.IGrowable;
+import net.minecraft.block.material.Material;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+
+import net.minecraftforge.common.IPlantable;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+
+import forestry.core.utils.WorldEventListenerAdapter;
+
+import it.unimi.dsi.fastutil.longs.Long2FloatMap;
+import it.unimi.dsi.fastutil.longs.Long2FloatOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+
+/**
+ * The parts of the butterfly path weights that do not depend on the butterfly, shared by all butterflies of a world.
+ * <p>
+ * The fluid depth of a column and the plant and perch score of a position are cached until a block changes there.
+ * The positions of the butterflies are collected while they update, so path weighting does not have to search the
+ * entity lists for other butterflies.
+ */
+public class ButterflyEnvironmentCache {
+	private static final int MAX_CACHED_ENTRIES = 16384;
+
+	private static final Map<World, ButterflyEnvironmentCache> caches = new WeakHashMap<>();
+
+	private final World world;
+	private final Long2IntMap fluidDepths = new Long2IntOpenHashMap();
+	private final Long2FloatMap blockScores = new Long2FloatOpenHashMap();
+
+	/**
+	 * Positions of the butterflies of the current tick and of the tick before. Butterflies that did not update yet
+	 * in this tick are still found in the positions of the tick before.
+	 */
+	private LongSet occupied = new LongOpenHashSet();
+	private LongSet previousOccupied = new LongOpenHashSet();
+	private long occupiedTime;
+	private final BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
+
+	private ButterflyEnvironmentCache(World world) {
+		this.world = world;
+		fluidDepths.defaultReturnValue(-1);
+		blockScores.defaultReturnValue(Float.NaN);
+		world.addEventListener(new BlockChangeListener());
+	}
+
+	public static ButterflyEnvironmentCache get(World world) {
+		return caches.computeIfAbsent(world, ButterflyEnvironmentCache::new);
+	}
+
+	private static long getColumnKey(int x, int z) {
+		return (long) x << 32 | z & 0xFFFFFFFFL;
+	}
+
+	/* OCCUPANCY */
+	private void updateOccupiedTime() {
+		long time = world.getTotalWorldTime();
+		if (occupiedTime != time) {
+			occupiedTime = time;
+			LongSet cleared = previousOccupied;
+			cleared.clear();
+			previousOccupied = occupied;
+			occupied = cleared;
+		}
+	}
+
+	/**
+	 * Marks all block positions the bounding box of the butterfly is in.
+	 */
+	public void markOccupied(EntityButterfly butterfly) {
+		updateOccupiedTime();
+		AxisAlignedBB box = butterfly.getEntityBoundingBox();
+		int minX = MathHelper.floor(box.minX);
+		int minY = MathHelper.floor(box.minY);
+		int minZ = MathHelper.floor(box.minZ);
+		int maxX = MathHelper.floor(box.maxX);
+		int maxY = MathHelper.floor(box.maxY);
+		int maxZ = MathHelper.floor(box.maxZ);
+		for (int x = minX; x <= maxX; x++) {
+			for (int y = minY; y <= maxY; y++) {
+				for (int z = minZ; z <= maxZ; z++) {
+					occupied.add(mutablePos.setPos(x, y, z).toLong());
+				}
+			}
+		}
+	}
+
+	public boolean isOccupied(BlockPos pos) {
+		updateOccupiedTime();
+		long key = pos.toLong();
+		return occupied.contains(key) || previousOccupied.contains(key);
+	}
+
+	/* ENVIRONMENT */
+
+	/**
+	 * @return the number of fluid blocks at the top of the column, below the air.
+	 */
+	public int getFluidDepth(BlockPos pos) {
+		long key = getColumnKey(pos.getX(), pos.getZ());
+		int depth = fluidDepths.get(key);
+		if (depth < 0) {
+			depth = scanFluidDepth(pos);
+			if (fluidDepths.size() >= MAX_CACHED_ENTRIES) {
+				fluidDepths.clear();
+			}
+			fluidDepths.put(key, depth);
+		}
+		return depth;
+	}
+
+	private int scanFluidDepth(BlockPos pos) {
+		Chunk chunk = world.getChunk(pos);
+		int xx = pos.getX() & 15;
+		int zz = pos.getZ() & 15;
+		int depth = 0;
+		for (int y = chunk.getTopFilledSegment() + 15; y > 0; --y) {
+			IBlockState blockState = chunk.getBlockState(xx, y, zz);
+			Block block = blockState.getBlock();
+			if (blockState.getMaterial().isLiquid()) {
+				depth++;
+			} else if (!block.isAir(blockState, world, pos)) {
+				break;
+			}
+		}
+
+		return depth;
+	}
+
+	/**
+	 * @return how much a butterfly likes the plant at the position and the block it can perch on below.
+	 */
+	public float getBlockScore(BlockPos pos) {
+		long key = pos.toLong();
+		float score = blockScores.get(key);
+		if (Float.isNaN(score)) {
+			score = calculateBlockScore(pos);
+			if (blockScores.size() >= MAX_CACHED_ENTRIES) {
+				blockScores.clear();
+			}
+			blockScores.put(key, score);
+		}
+		return score;
+	}
+
+	private float calculateBlockScore(BlockPos pos) {
+		float score = 0.0f;
+		IBlockState blockState = world.getBlockState(pos);
+		Block block = blockState.getBlock();
+		if (block instanceof BlockFlower) {
+			score += 2.0f;
+		} else if (block instanceof IPlantable) {
+			score += 1.5f;
+		} else if (block instanceof IGrowable) {
+			score += 1.0f;
+		} else if (blockState.getMaterial() == Material.PLANTS) {
+			score += 1.0f;
+		}
+
+		BlockPos posBelow = pos.down();
+		IBlockState blockStateBelow = world.getBlockState(posBelow);
+		Block blockBelow = blockStateBelow.getBlock();
+		if (blockBelow.isLeaves(blockStateBelow, world, posBelow)) {
+			score += 2.5f;
+		} else if (blockBelow instanceof BlockFence) {
+			score += 1.0f;
+		} else if (blockBelow instanceof BlockWall) {
+			score += 1.0f;
+		}
+		return score;
+	}
+
+	private void onBlockChanged(BlockPos pos) {
+		fluidDepths.remove(getColumnKey(pos.getX(), pos.getZ()));
+		blockScores.remove(pos.toLong());
+		blockScores.remove(pos.up().toLong());
+	}
+
+	public static class EventHandler {
+		@SubscribeEvent
+		public void onWorldUnload(WorldEvent.Unload event) {
+			caches.remove(event.getWorld());
+		}
+	}
+
+	private class BlockChangeListener extends WorldEventListenerAdapter {
+		@Override
+		public void notifyBlockUpdate(World worldIn, BlockPos pos, IBlockState oldState, IBlockState newState, int flags) {
+			if (oldState != newState) {
+				onBlockChanged(pos);
+			}
+		}
+	}
+}
@@ -12,12 +12,6 @@ package forestry.lepidopterology.entities;
 
 import javax.annotation.Nullable;
 
-import net.minecraft.block.Block;
-import net.minecraft.block.BlockFence;
-import net.minecraft.block.BlockFlower;
-import net.minecraft.block.BlockWall;
-import net.minecraft.block.IGrowable;
-import net.minecraft.block.material.Material;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityCreature;
@@ -31,16 +25,12 @@ import net.minecraft.network.datasync.EntityDataManager;
 import net.minecraft.util.DamageSource;
 import net.minecraft.util.EnumHand;
 import net.minecraft.util.ResourceLocation;
-import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.RayTraceResult;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.DifficultyInstance;
 import net.minecraft.world.World;
-import net.minecraft.world.chunk.Chunk;
-
-import net.minecraftforge.common.IPlantable;
 
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
@@ -242,36 +232,16 @@ public class EntityButterfly extends EntityCreature implements IEntityButterfly
 			weight -= 15.0f;
 		}
 
-		if (!world.getEntitiesWithinAABB(EntityButterfly.class, new AxisAlignedBB(pos.getX(), pos.getY(), pos.getZ(), pos.getX() + 1, pos.getY() + 1, pos.getZ() + 1)).isEmpty()) {
+		ButterflyEnvironmentCache environment = ButterflyEnvironmentCache.get(world);
+		if (environment.isOccupied(pos)) {
 			weight -= 1.0f;
 		}
 
-		int depth = getFluidDepth(pos);
+		int depth = environment.getFluidDepth(pos);
 		if (depth > 0) {
 			weight -= 0.1f * depth;
 		} else {
-			IBlockState blockState = world.getBlockState(pos);
-			Block block = blockState.getBlock();
-			if (block instanceof BlockFlower) {
-				weight += 2.0f;
-			} else if (block instanceof IPlantable) {
-				weight += 1.5f;
-			} else if (block instanceof IGrowable) {
-				weight += 1.0f;
-			} else if (blockState.getMaterial() == Material.PLANTS) {
-				weight += 1.0f;
-			}
-
-			BlockPos posBelow = pos.down();
-			IBlockState blockStateBelow = world.getBlockState(posBelow);
-			Block blockBelow = blockStateBelow.getBlock();
-			if (blockBelow.isLeaves(blockStateBelow, world, posBelow)) {
-				weight += 2.5f;
-			} else if (blockBelow instanceof BlockFence) {
-				weight += 1.0f;
-			} else if (blockBelow instanceof BlockWall) {
-				weight += 1.0f;
-			}
+			weight += environment.getBlockScore(pos);
 		}
 
 		weight += world.getLightBrightness(pos);
@@ -282,24 +252,6 @@ public class EntityButterfly extends EntityCreature implements IEntityButterfly
 		return distanceToHome < this.getMaximumHomeDistance() * this.getMaximumHomeDistance();
 	}
 
-	private int getFluidDepth(BlockPos pos) {
-		Chunk chunk = world.getChunk(pos);
-		int xx = pos.getX() & 15;
-		int zz = pos.getZ() & 15;
-		int depth = 0;
-		for (int y = chunk.getTopFilledSegment() + 15; y > 0; --y) {
-			IBlockState blockState = chunk.getBlockState(xx, y, zz);
-			Block block = blockState.getBlock();
-			if (blockState.getMaterial().isLiquid()) {
-				depth++;
-			} else if (!block.isAir(blockState, world, pos)) {
-				break;
-			}
-		}
-
-		return depth;
-	}
-
 	/* POLLEN */
 	@Override
 	@Nullable
@@ -474,6 +426,10 @@ public class EntityButterfly extends EntityCreature implements IEntityButterfly
 			}
 		}
 
+		if (!world.isRemote) {
+			ButterflyEnvironmentCache.get(world).markOccupied(this);
+		}
+
 		motionY *= 0.6000000238418579d;
 
 		// Make sure we die if the butterfly hasn't rested in a long, long time.
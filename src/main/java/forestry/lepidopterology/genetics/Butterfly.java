@@ -34,11 +34,11 @@ import forestry.api.core.EnumTemperature;
 import forestry.api.core.IErrorState;
 import forestry.api.genetics.AlleleManager;
 import forestry.api.genetics.EnumTolerance;
-import forestry.api.genetics.IAllele;
 import forestry.api.genetics.IAlleleTolerance;
 import forestry.api.genetics.IChromosome;
 import forestry.api.genetics.IGenome;
 import forestry.api.genetics.IIndividual;
+import forestry.api.genetics.IMutation;
 import forestry.api.lepidopterology.ButterflyManager;
 import forestry.api.lepidopterology.EnumButterflyChromosome;
 import forestry.api.lepidopterology.EnumFlutterType;
@@ -69,13 +69,13 @@ public class Butterfly extends IndividualLiving implements IButterfly {
 		super(nbt);
 
 		if (nbt.hasKey("Genome")) {
-			genome = new ButterflyGenome(nbt.getCompoundTag("Genome"));
+			genome = ButterflyGenome.fromNBT(nbt.getCompoundTag("Genome"));
 		} else {
 			genome = ButterflyManager.butterflyRoot.templateAsGenome(ButterflyManager.butterflyRoot.getDefaultTemplate());
 		}
 
 		if (nbt.hasKey("Mate")) {
-			mate = new ButterflyGenome(nbt.getCompoundTag("Mate"));
+			mate = ButterflyGenome.fromNBT(nbt.getCompoundTag("Mate"));
 		}
 	}
 
@@ -275,24 +275,26 @@ public class Butterfly extends IndividualLiving implements IButterfly {
 
 		IGenome genome0;
 		IGenome genome1;
-		IAllele allele0;
-		IAllele allele1;
+		IAlleleButterflySpecies allele0;
+		IAlleleButterflySpecies allele1;
 
 		if (rand.nextBoolean()) {
-			allele0 = parent1[EnumButterflyChromosome.SPECIES.ordinal()].getPrimaryAllele();
-			allele1 = parent2[EnumButterflyChromosome.SPECIES.ordinal()].getSecondaryAllele();
+			allele0 = (IAlleleButterflySpecies) parent1[EnumButterflyChromosome.SPECIES.ordinal()].getPrimaryAllele();
+			allele1 = (IAlleleButterflySpecies) parent2[EnumButterflyChromosome.SPECIES.ordinal()].getSecondaryAllele();
 
 			genome0 = genomeOne;
 			genome1 = genomeTwo;
 		} else {
-			allele0 = parent2[EnumButterflyChromosome.SPECIES.ordinal()].getPrimaryAllele();
-			allele1 = parent1[EnumButterflyChromosome.SPECIES.ordinal()].getSecondaryAllele();
+			allele0 = (IAlleleButterflySpecies) parent2[EnumButterflyChromosome.SPECIES.ordinal()].getPrimaryAllele();
+			allele1 = (IAlleleButterflySpecies) parent1[EnumButterflyChromosome.SPECIES.ordinal()].getSecondaryAllele();
 
 			genome0 = genomeTwo;
 			genome1 = genomeOne;
 		}
 
-		for (IButterflyMutation mutation : ButterflyManager.butterflyRoot.getMutations(true)) {
+		List<IMutation> combinations = ButterflyManager.butterflyRoot.getCombinations(allele0, allele1, true);
+		for (IMutation combination : combinations) {
+			IButterflyMutation mutation = (IButterflyMutation) combination;
 			float chance = mutation.getChance(world, nursery, allele0, allele1, genome0, genome1);
 			if (chance > rand.nextFloat() * 100) {
 				return ButterflyManager.butterflyRoot.templateAsChromosomes(mutation.getTemplate());
@@ -31,16 +31,29 @@ import forestry.api.lepidopterology.IAlleleButterflyEffect;
 import forestry.api.lepidopterology.IAlleleButterflySpecies;
 import forestry.api.lepidopterology.IButterflyGenome;
 import forestry.core.genetics.Genome;
+import forestry.core.genetics.GenomeCache;
 import forestry.core.genetics.alleles.AlleleBoolean;
 import forestry.core.genetics.alleles.AlleleTolerance;
 
 public class ButterflyGenome extends Genome implements IButterflyGenome {
+	private static final GenomeCache<ButterflyGenome> butterflyGenomeCache = new GenomeCache<>("butterflies", ButterflyGenome::new);
 
 	/* CONSTRUCTOR */
-	public ButterflyGenome(NBTTagCompound nbttagcompound) {
+	private ButterflyGenome(NBTTagCompound nbttagcompound) {
 		super(nbttagcompound);
 	}
 
+	public static ButterflyGenome fromNBT(NBTTagCompound nbtTagCompound) {
+		return butterflyGenomeCache.get(nbtTagCompound);
+	}
+
+	@Override
+	public NBTTagCompound writeToNBT(NBTTagCompound nbttagcompound) {
+		super.writeToNBT(nbttagcompound);
+		butterflyGenomeCache.put(nbttagcompound, this);
+		return nbttagcompound;
+	}
+
 	public ButterflyGenome(IChromosome[] chromosomes) {
 		super(chromosomes);
 	}
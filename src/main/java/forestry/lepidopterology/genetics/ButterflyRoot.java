@@ -330,12 +330,15 @@ public class ButterflyRoot extends SpeciesRoot implements IButterflyRoot {
 		}
 
 		butterflyMutations.add((IButterflyMutation) mutation);
+		invalidateMutationIndex();
 	}
 
 	@Override
 	public List<IButterflyMutation> getMutations(boolean shuffle) {
 		if (shuffle) {
-			Collections.shuffle(butterflyMutations);
+			List<IButterflyMutation> mutations = new ArrayList<>(butterflyMutations);
+			Collections.shuffle(mutations);
+			return mutations;
 		}
 		return butterflyMutations;
 	}
@@ -10,15 +10,25 @@
  ******************************************************************************/
 package forestry.mail;
 
+import javax.annotation.Nullable;
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.NonNullList;
 import net.minecraft.world.World;
 import net.minecraft.world.storage.WorldSavedData;
 
+import net.minecraftforge.common.util.Constants;
+
 import forestry.api.mail.EnumPostage;
 import forestry.api.mail.ILetter;
 import forestry.api.mail.IMailAddress;
@@ -30,12 +40,36 @@ import forestry.api.mail.ITradeStation;
 import forestry.api.mail.PostManager;
 import forestry.mail.items.EnumStampDefinition;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+
 public class PostOffice extends WorldSavedData implements IPostOffice {
 
 	// / CONSTANTS
 	public static final String SAVE_NAME = "ForestryMail";
+	private static final String KEY_TRADE_STATIONS = "TradeStations";
+	private static final long NO_TRADEGOOD = -1;
+
 	private final int[] collectedPostage = new int[EnumPostage.values().length];
-	private LinkedHashMap<IMailAddress, ITradeStation> activeTradeStations = new LinkedHashMap<>();
+	private final LinkedHashMap<IMailAddress, ITradeStation> activeTradeStations = new LinkedHashMap<>();
+	/**
+	 * The addresses of all trade stations of the world. Saved with the post office, so the trade stations can be
+	 * loaded without looking through the files of the world save.
+	 */
+	private final Set<IMailAddress> tradeStationAddresses = new LinkedHashSet<>();
+	/**
+	 * False for a post office saved before the addresses of the trade stations were saved with it.
+	 */
+	private boolean hasTradeStationIndex = false;
+	private boolean tradeStationsLoaded = false;
+
+	/**
+	 * The addresses of the active trade stations by the item and meta of their tradegood.
+	 */
+	private final Long2ObjectMap<Set<IMailAddress>> tradeStationsByTradegood = new Long2ObjectOpenHashMap<>();
+	private final Object2LongMap<IMailAddress> tradegoodKeys = new Object2LongOpenHashMap<>();
 
 	// CONSTRUCTORS
 	public PostOffice() {
@@ -48,7 +82,10 @@ public class PostOffice extends WorldSavedData implements IPostOffice {
 	}
 
 	public void setWorld(World world) {
-		refreshActiveTradeStations(world);
+		if (!tradeStationsLoaded) {
+			tradeStationsLoaded = true;
+			loadTradeStations(world);
+		}
 	}
 
 	@Override
@@ -58,6 +95,13 @@ public class PostOffice extends WorldSavedData implements IPostOffice {
 				collectedPostage[i] = nbttagcompound.getInteger("CPS" + i);
 			}
 		}
+
+		hasTradeStationIndex = nbttagcompound.hasKey(KEY_TRADE_STATIONS);
+		tradeStationAddresses.clear();
+		NBTTagList addressList = nbttagcompound.getTagList(KEY_TRADE_STATIONS, Constants.NBT.TAG_COMPOUND);
+		for (int i = 0; i < addressList.tagCount(); i++) {
+			tradeStationAddresses.add(new MailAddress(addressList.getCompoundTagAt(i)));
+		}
 	}
 
 	@Override
@@ -65,6 +109,14 @@ public class PostOffice extends WorldSavedData implements IPostOffice {
 		for (int i = 0; i < collectedPostage.length; i++) {
 			nbttagcompound.setInteger("CPS" + i, collectedPostage[i]);
 		}
+
+		NBTTagList addressList = new NBTTagList();
+		for (IMailAddress address : tradeStationAddresses) {
+			NBTTagCompound addressNbt = new NBTTagCompound();
+			address.writeToNBT(addressNbt);
+			addressList.appendTag(addressNbt);
+		}
+		nbttagcompound.setTag(KEY_TRADE_STATIONS, addressList);
 		return nbttagcompound;
 	}
 
@@ -75,17 +127,57 @@ public class PostOffice extends WorldSavedData implements IPostOffice {
 		return this.activeTradeStations;
 	}
 
-	private void refreshActiveTradeStations(World world) {
-		activeTradeStations = new LinkedHashMap<>();
+	@Nullable
+	public ITradeStation getTradeStation(IMailAddress address) {
+		return activeTradeStations.get(address);
+	}
+
+	/**
+	 * @return the active trade stations that offer the item of the given stack as their tradegood.
+	 */
+	public List<ITradeStation> getTradeStationsByTradegood(ItemStack tradegood) {
+		Set<IMailAddress> addresses = tradeStationsByTradegood.get(getTradegoodKey(tradegood));
+		if (addresses == null) {
+			return Collections.emptyList();
+		}
+		List<ITradeStation> tradeStations = new ArrayList<>(addresses.size());
+		for (IMailAddress address : addresses) {
+			tradeStations.add(activeTradeStations.get(address));
+		}
+		return tradeStations;
+	}
+
+	private void loadTradeStations(World world) {
+		if (!hasTradeStationIndex) {
+			// Saved by an older version, find the trade stations once in the world save.
+			tradeStationAddresses.addAll(findTradeStationAddresses(world));
+			hasTradeStationIndex = true;
+			markDirty();
+		}
+
+		for (IMailAddress address : new ArrayList<>(tradeStationAddresses)) {
+			ITradeStation trade = PostRegistry.loadTradeStation(world, address);
+			if (trade == null) {
+				tradeStationAddresses.remove(address);
+				markDirty();
+				continue;
+			}
+
+			registerTradeStation(trade);
+		}
+	}
+
+	private static List<IMailAddress> findTradeStationAddresses(World world) {
+		List<IMailAddress> addresses = new ArrayList<>();
 		File worldSave = world.getSaveHandler().getMapFileFromName("dummy");
 		File file = worldSave.getParentFile();
 		if (!file.exists() || !file.isDirectory()) {
-			return;
+			return addresses;
 		}
 
 		String[] list = file.list();
 		if (list == null) {
-			return;
+			return addresses;
 		}
 
 		for (String str : list) {
@@ -96,26 +188,74 @@ public class PostOffice extends WorldSavedData implements IPostOffice {
 				continue;
 			}
 
-			MailAddress address = new MailAddress(str.replace(TradeStation.SAVE_NAME, "").replace(".dat", ""));
-			ITradeStation trade = PostManager.postRegistry.getTradeStation(world, address);
-			if (trade == null) {
-				continue;
-			}
-
-			registerTradeStation(trade);
+			addresses.add(new MailAddress(str.replace(TradeStation.SAVE_NAME, "").replace(".dat", "")));
 		}
+		return addresses;
 	}
 
 	@Override
 	public void registerTradeStation(ITradeStation trade) {
-		if (!activeTradeStations.containsKey(trade.getAddress())) {
-			activeTradeStations.put(trade.getAddress(), trade);
+		IMailAddress address = trade.getAddress();
+		if (!activeTradeStations.containsKey(address)) {
+			activeTradeStations.put(address, trade);
+			updateTradegood(trade);
+		}
+		if (tradeStationAddresses.add(address)) {
+			markDirty();
 		}
 	}
 
 	@Override
 	public void deregisterTradeStation(ITradeStation trade) {
-		activeTradeStations.remove(trade.getAddress());
+		IMailAddress address = trade.getAddress();
+		if (activeTradeStations.remove(address) != null) {
+			removeTradegood(address);
+		}
+		if (tradeStationAddresses.remove(address)) {
+			markDirty();
+		}
+	}
+
+	/**
+	 * Moves the trade station to the tradegood it currently offers in the tradegood index.
+	 */
+	public void updateTradegood(ITradeStation trade) {
+		IMailAddress address = trade.getAddress();
+		if (activeTradeStations.get(address) != trade) {
+			return;
+		}
+
+		long key = getTradegoodKey(trade.getStackInSlot(TradeStation.SLOT_TRADEGOOD));
+		if (tradegoodKeys.containsKey(address) && tradegoodKeys.getLong(address) == key) {
+			return;
+		}
+
+		removeTradegood(address);
+		if (key != NO_TRADEGOOD) {
+			tradegoodKeys.put(address, key);
+			tradeStationsByTradegood.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(address);
+		}
+	}
+
+	private void removeTradegood(IMailAddress address) {
+		if (!tradegoodKeys.containsKey(address)) {
+			return;
+		}
+		long key = tradegoodKeys.removeLong(address);
+		Set<IMailAddress> addresses = tradeStationsByTradegood.get(key);
+		if (addresses != null) {
+			addresses.remove(address);
+			if (addresses.isEmpty()) {
+				tradeStationsByTradegood.remove(key);
+			}
+		}
+	}
+
+	private static long getTradegoodKey(ItemStack tradegood) {
+		if (tradegood.isEmpty()) {
+			return NO_TRADEGOOD;
+		}
+		return (long) Item.getIdFromItem(tradegood.getItem()) << 32 | tradegood.getMetadata() & 0xFFFFFFFFL;
 	}
 
 	// / STAMP MANAGMENT
@@ -26,10 +26,8 @@ import com.mojang.authlib.GameProfile;
 import forestry.api.mail.EnumAddressee;
 import forestry.api.mail.ILetter;
 import forestry.api.mail.IMailAddress;
-import forestry.api.mail.IPostOffice;
 import forestry.api.mail.IPostRegistry;
 import forestry.api.mail.IPostalCarrier;
-import forestry.api.mail.ITradeStation;
 import forestry.api.mail.PostManager;
 import forestry.core.utils.Log;
 import forestry.core.utils.NetworkUtil;
@@ -40,7 +38,6 @@ public class PostRegistry implements IPostRegistry {
 	@Nullable
 	public static PostOffice cachedPostOffice;
 	public static final Map<IMailAddress, POBox> cachedPOBoxes = new HashMap<>();
-	public static final Map<IMailAddress, ITradeStation> cachedTradeStations = new HashMap<>();
 
 	private final Map<EnumAddressee, IPostalCarrier> carriers = new EnumMap<>(EnumAddressee.class);
 
@@ -107,17 +104,33 @@ public class PostRegistry implements IPostRegistry {
 	}
 
 	@Override
+	@Nullable
 	public TradeStation getTradeStation(World world, IMailAddress address) {
-		if (cachedTradeStations.containsKey(address)) {
-			return (TradeStation) cachedTradeStations.get(address);
+		// The post office loads all trade stations of the world when it is loaded.
+		PostOffice office = getPostOffice(world);
+		TradeStation trade = (TradeStation) office.getTradeStation(address);
+		if (trade != null) {
+			return trade;
 		}
 
+		// The index of the post office can miss a saved trade station, after a crash or a restored post office.
+		trade = loadTradeStation(world, address);
+		if (trade != null) {
+			office.registerTradeStation(trade);
+		}
+		return trade;
+	}
+
+	/**
+	 * Loads a trade station from the world save.
+	 * Used by the post office to load the trade stations it knows, and for addresses that are missing from its index.
+	 */
+	@Nullable
+	static TradeStation loadTradeStation(World world, IMailAddress address) {
 		TradeStation trade = (TradeStation) world.loadData(TradeStation.class, TradeStation.SAVE_NAME + address);
 
 		// Only existing and valid mail orders are returned
 		if (trade != null && trade.isValid()) {
-			cachedTradeStations.put(address, trade);
-			getPostOffice(world).registerTradeStation(trade);
 			return trade;
 		}
 
@@ -132,7 +145,6 @@ public class PostRegistry implements IPostRegistry {
 			trade = new TradeStation(owner, address);
 			world.setData(TradeStation.SAVE_NAME + address, trade);
 			trade.markDirty();
-			cachedTradeStations.put(address, trade);
 			getPostOffice(world).registerTradeStation(trade);
 		}
 
@@ -148,7 +160,6 @@ public class PostRegistry implements IPostRegistry {
 
 		// Need to be marked as invalid since WorldSavedData seems to do some caching of its own.
 		trade.invalidate();
-		cachedTradeStations.remove(address);
 		getPostOffice(world).deregisterTradeStation(trade);
 		File file = world.getSaveHandler().getMapFileFromName(trade.mapName);
 		boolean delete = file.delete();
@@ -158,7 +169,7 @@ public class PostRegistry implements IPostRegistry {
 	}
 
 	@Override
-	public IPostOffice getPostOffice(World world) {
+	public PostOffice getPostOffice(World world) {
 		if (cachedPostOffice != null) {
 			return cachedPostOffice;
 		}
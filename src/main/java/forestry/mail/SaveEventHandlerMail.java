@@ -20,7 +20,6 @@ public class SaveEventHandlerMail implements ISaveEventHandler {
 	public void onWorldLoad(World world) {
 		PostRegistry.cachedPostOffice = null;
 		PostRegistry.cachedPOBoxes.clear();
-		PostRegistry.cachedTradeStations.clear();
 	}
 
 	@Override
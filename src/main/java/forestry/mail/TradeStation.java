@@ -567,12 +567,23 @@ public class TradeStation extends WorldSavedData implements ITradeStation, IInve
 	public void markDirty() {
 		super.markDirty();
 		inventory.markDirty();
+		updateTradegoodIndex();
 	}
 
 	@Override
 	public void setInventorySlotContents(int slot, ItemStack itemStack) {
 		this.markDirty();
 		inventory.setInventorySlotContents(slot, itemStack);
+		if (slot == SLOT_TRADEGOOD) {
+			updateTradegoodIndex();
+		}
+	}
+
+	private void updateTradegoodIndex() {
+		PostOffice postOffice = PostRegistry.cachedPostOffice;
+		if (postOffice != null) {
+			postOffice.updateTradegood(this);
+		}
 	}
 
 	@Override
@@ -12,9 +12,13 @@
  */
 package forestry.mail.commands;
 
+import java.util.Collection;
+
+import net.minecraft.command.CommandBase;
 import net.minecraft.command.CommandException;
 import net.minecraft.command.ICommandSender;
 import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.util.text.Style;
@@ -28,6 +32,8 @@ import forestry.core.commands.CommandHelpers;
 import forestry.core.commands.SubCommand;
 import forestry.core.utils.StringUtil;
 import forestry.mail.MailAddress;
+import forestry.mail.PostOffice;
+import forestry.mail.PostRegistry;
 
 /**
  * @author CovertJaguar <http://www.railcraft.info/>
@@ -49,11 +55,26 @@ public class CommandMail extends SubCommand {
 		}
 
 		@Override
-		public void executeSubCommand(MinecraftServer server, ICommandSender sender, String[] args) {
+		public void executeSubCommand(MinecraftServer server, ICommandSender sender, String[] args) throws CommandException {
 			if (!(sender instanceof EntityPlayer)) {
 				return;
 			}
-			for (ITradeStation trade : PostManager.postRegistry.getPostOffice(((EntityPlayer) sender).world).getActiveTradeStations(((EntityPlayer) sender).world).values()) {
+			if (args.length > 2) {
+				CommandHelpers.throwWrongUsage(sender, this);
+			}
+
+			World world = ((EntityPlayer) sender).world;
+			PostOffice postOffice = ((PostRegistry) PostManager.postRegistry).getPostOffice(world);
+			Collection<ITradeStation> tradeStations;
+			if (args.length > 0) {
+				Item item = CommandBase.getItemByText(sender, args[0]);
+				int meta = args.length > 1 ? CommandBase.parseInt(args[1], 0) : 0;
+				tradeStations = postOffice.getTradeStationsByTradegood(new ItemStack(item, 1, meta));
+			} else {
+				tradeStations = postOffice.getActiveTradeStations(world).values();
+			}
+
+			for (ITradeStation trade : tradeStations) {
 				CommandHelpers.sendChatMessage(sender, makeTradeListEntry(trade.getTradeInfo()));
 			}
 		}
@@ -1,10 +1,14 @@
 package forestry.sorting;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.network.PacketBuffer;
@@ -32,6 +36,17 @@ public class FilterLogic implements IFilterLogic {
 	private final INetworkHandler networkHandler;
 	private IFilterRuleType[] filterRules = new IFilterRuleType[6];
 	private AlleleFilter[][] genomeFilter = new AlleleFilter[6][3];
+	/**
+	 * The valid facings of recently filtered stacks, so the genome of a stack is only read once while the rules stay
+	 * the same.
+	 */
+	private final Map<StackKey, Integer> validFacingsCache = new LinkedHashMap<StackKey, Integer>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<StackKey, Integer> eldest) {
+			return size() > MAX_CACHED_STACKS;
+		}
+	};
+	private static final int MAX_CACHED_STACKS = 32;
 
 	public FilterLogic(ILocatable locatable, INetworkHandler networkHandler) {
 		this.locatable = locatable;
@@ -71,6 +86,7 @@ public class FilterLogic implements IFilterLogic {
 
 	@Override
 	public void readFromNBT(NBTTagCompound data) {
+		validFacingsCache.clear();
 		for (int i = 0; i < filterRules.length; i++) {
 			filterRules[i] = AlleleManager.filterRegistry.getRuleOrDefault(data.getString("TypeFilter" + i));
 		}
@@ -122,6 +138,7 @@ public class FilterLogic implements IFilterLogic {
 	@SideOnly(Side.CLIENT)
 	@Override
 	public void readGuiData(PacketBuffer data) {
+		validFacingsCache.clear();
 		for (int i = 0; i < filterRules.length; i++) {
 			filterRules[i] = AlleleManager.filterRegistry.getRule(data.readShort());
 		}
@@ -140,7 +157,35 @@ public class FilterLogic implements IFilterLogic {
 		}
 	}
 
+	@Override
 	public Collection<EnumFacing> getValidDirections(ItemStack itemStack, EnumFacing from) {
+		int validFacings = getValidFacings(itemStack);
+		List<EnumFacing> directions = new ArrayList<>(Integer.bitCount(validFacings));
+		for (EnumFacing facing : EnumFacing.VALUES) {
+			if (facing != from && (validFacings & 1 << facing.ordinal()) != 0) {
+				directions.add(facing);
+			}
+		}
+		return directions;
+	}
+
+	/**
+	 * @return a bit mask of the facings whose rules accept the stack, with the bit of a facing at its ordinal.
+	 */
+	public int getValidFacings(ItemStack itemStack) {
+		if (itemStack.isEmpty()) {
+			return calculateValidFacings(itemStack);
+		}
+		StackKey key = new StackKey(itemStack);
+		Integer validFacings = validFacingsCache.get(key);
+		if (validFacings == null) {
+			validFacings = calculateValidFacings(itemStack);
+			validFacingsCache.put(key.copy(), validFacings);
+		}
+		return validFacings;
+	}
+
+	private int calculateValidFacings(ItemStack itemStack) {
 		ISpeciesRoot root = AlleleManager.alleleRegistry.getSpeciesRoot(itemStack);
 		IIndividual individual = null;
 		ISpeciesType type = null;
@@ -149,13 +194,10 @@ public class FilterLogic implements IFilterLogic {
 			type = root.getType(itemStack);
 		}
 		IFilterData filterData = new FilterData(root, individual, type);
-		List<EnumFacing> validFacings = new LinkedList<>();
+		int validFacings = 0;
 		for (EnumFacing facing : EnumFacing.VALUES) {
-			if (facing == from) {
-				continue;
-			}
 			if (isValid(facing, itemStack, filterData)) {
-				validFacings.add(facing);
+				validFacings |= 1 << facing.ordinal();
 			}
 		}
 		return validFacings;
@@ -163,14 +205,7 @@ public class FilterLogic implements IFilterLogic {
 
 	@Override
 	public boolean isValid(ItemStack itemStack, EnumFacing facing) {
-		ISpeciesRoot root = AlleleManager.alleleRegistry.getSpeciesRoot(itemStack);
-		IIndividual individual = null;
-		ISpeciesType type = null;
-		if (root != null) {
-			individual = root.getMember(itemStack);
-			type = root.getType(itemStack);
-		}
-		return isValid(facing, itemStack, new FilterData(root, individual, type));
+		return (getValidFacings(itemStack) & 1 << facing.ordinal()) != 0;
 	}
 
 	public boolean isValid(EnumFacing facing, ItemStack itemStack, IFilterData filterData) {
@@ -225,6 +260,7 @@ public class FilterLogic implements IFilterLogic {
 	public boolean setRule(EnumFacing facing, IFilterRuleType rule) {
 		if (filterRules[facing.ordinal()] != rule) {
 			filterRules[facing.ordinal()] = rule;
+			validFacingsCache.clear();
 			return true;
 		}
 		return false;
@@ -257,6 +293,9 @@ public class FilterLogic implements IFilterLogic {
 			set = filter.inactiveAllele != allele;
 			filter.inactiveAllele = allele;
 		}
+		if (set) {
+			validFacingsCache.clear();
+		}
 		return set;
 	}
 
@@ -269,4 +308,50 @@ public class FilterLogic implements IFilterLogic {
 	public void sendToServer(EnumFacing facing, IFilterRuleType rule) {
 		NetworkUtil.sendToServer(new PacketFilterChangeRule(locatable.getCoordinates(), facing, rule));
 	}
+
+	/**
+	 * Identifies stacks that are filtered the same way. The genome of genetic stacks is part of their tag.
+	 */
+	private static final class StackKey {
+		private final Item item;
+		private final int meta;
+		@Nullable
+		private final NBTTagCompound tag;
+		private final int hash;
+
+		private StackKey(ItemStack stack) {
+			this(stack.getItem(), stack.getMetadata(), stack.getTagCompound());
+		}
+
+		private StackKey(Item item, int meta, @Nullable NBTTagCompound tag) {
+			this.item = item;
+			this.meta = meta;
+			this.tag = tag;
+			this.hash = 31 * (31 * item.hashCode() + meta) + Objects.hashCode(tag);
+		}
+
+		/**
+		 * @return a key that does not share the tag of the stack, which may still change.
+		 */
+		private StackKey copy() {
+			return tag == null ? this : new StackKey(item, meta, tag.copy());
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof StackKey)) {
+				return false;
+			}
+			StackKey other = (StackKey) obj;
+			return item == other.item && meta == other.meta && hash == other.hash && Objects.equals(tag, other.tag);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
 }
@@ -11,16 +11,31 @@ import net.minecraftforge.oredict.OreDictionary;
 import forestry.api.storage.IBackpackFilterConfigurable;
 import forestry.core.utils.ItemStackUtil;
 
+import it.unimi.dsi.fastutil.longs.Long2ByteMap;
+import it.unimi.dsi.fastutil.longs.Long2ByteOpenHashMap;
+
 public class BackpackFilter implements IBackpackFilterConfigurable {
+	private static final byte UNKNOWN = 0;
+	private static final byte ACCEPTED = 1;
+	private static final byte REJECTED = 2;
+
 	private final Set<String> acceptedItemStacks = new HashSet<>();
 	private final Set<String> rejectedItemStacks = new HashSet<>();
 	private final Set<Integer> validOreIds = new HashSet<>();
+	/**
+	 * The results of {@link #test(ItemStack)}, keyed by item id and meta.
+	 * Filled on the first test of every item, after the filter got configured from the config and the ore dictionary.
+	 * The filter is tested by the client and the server thread, so the map is never changed after it was published.
+	 * New results are added to a copy that replaces it.
+	 */
+	private volatile Long2ByteMap decisions = new Long2ByteOpenHashMap();
 
 	@Override
 	public void acceptItem(ItemStack validItem) {
 		String itemStackString = ItemStackUtil.getStringForItemStack(validItem);
 		if (itemStackString != null) {
 			this.acceptedItemStacks.add(itemStackString);
+			clearDecisions();
 		}
 	}
 
@@ -29,6 +44,7 @@ public class BackpackFilter implements IBackpackFilterConfigurable {
 		if (OreDictionary.doesOreNameExist(oreDictName)) {
 			int oreId = OreDictionary.getOreID(oreDictName);
 			this.validOreIds.add(oreId);
+			clearDecisions();
 		}
 	}
 
@@ -37,6 +53,7 @@ public class BackpackFilter implements IBackpackFilterConfigurable {
 		if (OreDictionary.doesOreNameExist(oreDictName)) {
 			int oreId = OreDictionary.getOreID(oreDictName);
 			this.validOreIds.remove(oreId);
+			clearDecisions();
 		}
 	}
 
@@ -45,6 +62,7 @@ public class BackpackFilter implements IBackpackFilterConfigurable {
 		String itemStackString = ItemStackUtil.getStringForItemStack(invalidItem);
 		if (itemStackString != null) {
 			this.rejectedItemStacks.add(itemStackString);
+			clearDecisions();
 		}
 	}
 
@@ -53,6 +71,7 @@ public class BackpackFilter implements IBackpackFilterConfigurable {
 		acceptedItemStacks.clear();
 		rejectedItemStacks.clear();
 		validOreIds.clear();
+		clearDecisions();
 	}
 
 	@Override
@@ -62,6 +81,27 @@ public class BackpackFilter implements IBackpackFilterConfigurable {
 		}
 
 		Item item = itemStack.getItem();
+		int meta = itemStack.getMetadata();
+		long key = (long) Item.getIdFromItem(item) << 32 | meta & 0xFFFFFFFFL;
+		byte decision = decisions.get(key);
+		if (decision == UNKNOWN) {
+			decision = isAccepted(itemStack, item, meta) ? ACCEPTED : REJECTED;
+			addDecision(key, decision);
+		}
+		return decision == ACCEPTED;
+	}
+
+	private synchronized void addDecision(long key, byte decision) {
+		Long2ByteMap decisions = new Long2ByteOpenHashMap(this.decisions);
+		decisions.put(key, decision);
+		this.decisions = decisions;
+	}
+
+	private synchronized void clearDecisions() {
+		decisions = new Long2ByteOpenHashMap();
+	}
+
+	private boolean isAccepted(ItemStack itemStack, Item item, int meta) {
 		String itemStackStringWild = ItemStackUtil.getItemNameFromRegistryAsString(item);
 		if (rejectedItemStacks.contains(itemStackStringWild)) {
 			return false;
@@ -70,7 +110,6 @@ public class BackpackFilter implements IBackpackFilterConfigurable {
 			return true;
 		}
 
-		int meta = itemStack.getMetadata();
 		if (meta != OreDictionary.WILDCARD_VALUE) {
 			String itemStackString = itemStackStringWild + ':' + meta;
 			if (rejectedItemStacks.contains(itemStackString)) {
@@ -84,7 +123,6 @@ public class BackpackFilter implements IBackpackFilterConfigurable {
 		int[] oreIds = OreDictionary.getOreIDs(itemStack);
 		for (int oreId : oreIds) {
 			if (validOreIds.contains(oreId)) {
-				acceptedItemStacks.add(itemStackStringWild);
 				return true;
 			}
 		}
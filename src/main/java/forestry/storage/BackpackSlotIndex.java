@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.storage;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.NonNullList;
+
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.PlayerEvent.PlayerLoggedOutEvent;
+
+import forestry.api.storage.IBackpackDefinition;
+import forestry.storage.items.ItemBackpack;
+
+/**
+ * The slots of the main inventory of a player that hold backpacks, with the backpack type of every slot.
+ * <p>
+ * The index is built at most once per tick for every player, and shared by the resupply and all pickups of that tick.
+ * A slot that does not hold the indexed backpack anymore is skipped.
+ * The index does not reference the player, so a player that is not used anymore is released from the map.
+ */
+final class BackpackSlotIndex {
+	private static final Map<EntityPlayer, BackpackSlotIndex> indices = new WeakHashMap<>();
+
+	private long time = Long.MIN_VALUE;
+	private int size;
+	private int[] slots = new int[0];
+	private ItemBackpack[] backpacks = new ItemBackpack[0];
+
+	public static BackpackSlotIndex get(EntityPlayer player) {
+		BackpackSlotIndex index = indices.computeIfAbsent(player, p -> new BackpackSlotIndex());
+		long worldTime = player.world.getTotalWorldTime();
+		if (index.time != worldTime) {
+			index.time = worldTime;
+			index.build(player);
+		}
+		return index;
+	}
+
+	private void build(EntityPlayer player) {
+		NonNullList<ItemStack> mainInventory = player.inventory.mainInventory;
+		size = 0;
+		for (int slot = 0; slot < mainInventory.size(); slot++) {
+			Item item = mainInventory.get(slot).getItem();
+			if (item instanceof ItemBackpack) {
+				if (size == slots.length) {
+					int length = Math.max(4, size * 2);
+					int[] newSlots = new int[length];
+					ItemBackpack[] newBackpacks = new ItemBackpack[length];
+					System.arraycopy(slots, 0, newSlots, 0, size);
+					System.arraycopy(backpacks, 0, newBackpacks, 0, size);
+					slots = newSlots;
+					backpacks = newBackpacks;
+				}
+				slots[size] = slot;
+				backpacks[size] = (ItemBackpack) item;
+				size++;
+			}
+		}
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * @return the backpack of the indexed slot, or an empty stack if the slot holds another item by now.
+	 */
+	public ItemStack getBackpack(EntityPlayer player, int index) {
+		ItemStack itemStack = player.inventory.mainInventory.get(slots[index]);
+		if (itemStack.getItem() != backpacks[index]) {
+			return ItemStack.EMPTY;
+		}
+		return itemStack;
+	}
+
+	public IBackpackDefinition getDefinition(int index) {
+		return backpacks[index].getDefinition();
+	}
+
+	public static class EventHandler {
+		@SubscribeEvent
+		public void onPlayerLoggedOut(PlayerLoggedOutEvent event) {
+			indices.remove(event.player);
+		}
+
+		@SubscribeEvent
+		public void onPlayerClone(PlayerEvent.Clone event) {
+			indices.remove(event.getOriginal());
+		}
+	}
+}
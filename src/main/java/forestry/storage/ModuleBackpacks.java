@@ -141,6 +141,7 @@ public class ModuleBackpacks extends BlankForestryModule {
 	@Override
 	public void preInit() {
 		MinecraftForge.EVENT_BUS.register(this);
+		MinecraftForge.EVENT_BUS.register(new BackpackSlotIndex.EventHandler());
 	}
 
 	@Override
@@ -14,7 +14,6 @@ import net.minecraft.entity.item.EntityItem;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
 
-import forestry.api.storage.IBackpackDefinition;
 import forestry.core.IPickupHandler;
 import forestry.storage.gui.ContainerBackpack;
 import forestry.storage.gui.ContainerNaturalistBackpack;
@@ -38,18 +37,18 @@ public class PickupHandlerStorage implements IPickupHandler {
 		// Make sure to top off manually placed itemstacks in player inventory first
 		topOffPlayerInventory(player, itemstack);
 
-		for (ItemStack pack : player.inventory.mainInventory) {
+		BackpackSlotIndex backpacks = BackpackSlotIndex.get(player);
+		for (int i = 0; i < backpacks.size(); i++) {
 			if (itemstack.isEmpty()) {
 				break;
 			}
 
-			if (pack.isEmpty() || !(pack.getItem() instanceof ItemBackpack)) {
+			ItemStack pack = backpacks.getBackpack(player, i);
+			if (pack.isEmpty()) {
 				continue;
 			}
 
-			ItemBackpack backpack = (ItemBackpack) pack.getItem();
-			IBackpackDefinition backpackDefinition = backpack.getDefinition();
-			if (backpackDefinition.getFilter().test(itemstack)) {
+			if (backpacks.getDefinition(i).getFilter().test(itemstack)) {
 				ItemBackpack.tryStowing(player, pack, itemstack);
 			}
 		}
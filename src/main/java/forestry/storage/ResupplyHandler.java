@@ -10,20 +10,21 @@
  ******************************************************************************/
 package forestry.storage;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.InventoryPlayer;
 import net.minecraft.inventory.ContainerPlayer;
 import net.minecraft.item.ItemStack;
-import net.minecraft.util.NonNullList;
 
 import net.minecraftforge.common.MinecraftForge;
 
 import net.minecraftforge.fml.common.eventhandler.Event;
 
 import forestry.api.storage.BackpackResupplyEvent;
+import forestry.api.storage.IBackpackDefinition;
 import forestry.core.IResupplyHandler;
 import forestry.core.inventory.ItemInventory;
 import forestry.storage.inventory.ItemInventoryBackpack;
@@ -31,16 +32,6 @@ import forestry.storage.items.ItemBackpack;
 
 public class ResupplyHandler implements IResupplyHandler {
 
-	private static NonNullList<ItemStack> getBackpacks(InventoryPlayer playerInventory) {
-		NonNullList<ItemStack> backpacks = NonNullList.create();
-		for (ItemStack itemStack : playerInventory.mainInventory) {
-			if (itemStack.getItem() instanceof ItemBackpack) {
-				backpacks.add(itemStack);
-			}
-		}
-		return backpacks;
-	}
-
 	@Override
 	public void resupply(EntityPlayer player) {
 
@@ -49,18 +40,38 @@ public class ResupplyHandler implements IResupplyHandler {
 			return;
 		}
 
-		for (ItemStack backpack : getBackpacks(player.inventory)) {
-			if (ItemBackpack.getMode(backpack) == BackpackMode.RESUPPLY) {
+		BackpackSlotIndex backpacks = BackpackSlotIndex.get(player);
+		if (backpacks.isEmpty()) {
+			return;
+		}
+
+		List<ItemStack> incompleteStacks = null;
+		for (int i = 0; i < backpacks.size(); i++) {
+			ItemStack backpack = backpacks.getBackpack(player, i);
+			if (!backpack.isEmpty() && ItemBackpack.getMode(backpack) == BackpackMode.RESUPPLY) {
+				if (incompleteStacks == null) {
+					incompleteStacks = getIncompleteStacks(player.inventory);
+					if (incompleteStacks.isEmpty()) {
+						return;
+					}
+				}
+
+				// A backpack only holds items its filter accepts, so it can only top off stacks the filter accepts.
+				IBackpackDefinition definition = backpacks.getDefinition(i);
+				if (!acceptsAny(definition.getFilter(), incompleteStacks)) {
+					continue;
+				}
+
 				// Load their inventory
 				ItemBackpack backpackItem = (ItemBackpack) backpack.getItem();
 				ItemInventory backpackInventory = new ItemInventoryBackpack(player, backpackItem.getBackpackSize(), backpack);
 
-				Event event = new BackpackResupplyEvent(player, backpackItem.getDefinition(), backpackInventory);
+				Event event = new BackpackResupplyEvent(player, definition, backpackInventory);
 				if (!MinecraftForge.EVENT_BUS.post(event)) {
-					for (int i = 0; i < backpackInventory.getSizeInventory(); i++) {
-						ItemStack itemStack = backpackInventory.getStackInSlot(i);
+					for (int slot = 0; slot < backpackInventory.getSizeInventory(); slot++) {
+						ItemStack itemStack = backpackInventory.getStackInSlot(slot);
 						if (topOffPlayerInventory(player, itemStack)) {
-							backpackInventory.setInventorySlotContents(i, itemStack);
+							backpackInventory.setInventorySlotContents(slot, itemStack);
 							break;
 						}
 					}
@@ -69,6 +80,35 @@ public class ResupplyHandler implements IResupplyHandler {
 		}
 	}
 
+	/**
+	 * @return the stacks in the player's inventory that a backpack could top off.
+	 */
+	private static List<ItemStack> getIncompleteStacks(InventoryPlayer playerInventory) {
+		List<ItemStack> incompleteStacks = new ArrayList<>();
+		addIncompleteStacks(playerInventory, playerInventory.mainInventory, incompleteStacks);
+		addIncompleteStacks(playerInventory, playerInventory.offHandInventory, incompleteStacks);
+		return incompleteStacks;
+	}
+
+	private static void addIncompleteStacks(InventoryPlayer playerInventory, List<ItemStack> inventory, List<ItemStack> incompleteStacks) {
+		for (ItemStack inventoryStack : inventory) {
+			if (!inventoryStack.isEmpty() && inventoryStack.isStackable()
+				&& inventoryStack.getCount() < inventoryStack.getMaxStackSize()
+				&& inventoryStack.getCount() < playerInventory.getInventoryStackLimit()) {
+				incompleteStacks.add(inventoryStack);
+			}
+		}
+	}
+
+	private static boolean acceptsAny(Predicate<ItemStack> filter, List<ItemStack> itemStacks) {
+		for (ItemStack itemStack : itemStacks) {
+			if (filter.test(itemStack)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * This tops off existing stacks in the player's inventory.
 	 * Adds to player inventory if there is an incomplete stack in there.
@@ -78,10 +118,10 @@ public class ResupplyHandler implements IResupplyHandler {
 			return false;
 		}
 		InventoryPlayer playerInventory = player.inventory;
-		List<ItemStack> inventory = new LinkedList<>();
-		inventory.addAll(playerInventory.mainInventory);
-		inventory.addAll(playerInventory.offHandInventory);
+		return topOff(playerInventory, playerInventory.mainInventory, itemstack) || topOff(playerInventory, playerInventory.offHandInventory, itemstack);
+	}
 
+	private static boolean topOff(InventoryPlayer playerInventory, List<ItemStack> inventory, ItemStack itemstack) {
 		for (ItemStack inventoryStack : inventory) {
 			if (playerInventory.canMergeStacks(inventoryStack, itemstack)) {
 				inventoryStack.grow(1);
@@ -90,7 +130,6 @@ public class ResupplyHandler implements IResupplyHandler {
 				return true;
 			}
 		}
-
 		return false;
 	}
 
@@ -27,6 +27,8 @@ public class ItemInventoryBackpackPaged extends ItemInventoryBackpack implements
 
 	@Override
 	public void flipPage(EntityPlayer player, short page) {
+		// the inventory of the next page is read from the parent item
+		writeChangedSlots();
 		GuiHandler.openGui(player, backpackNaturalist, page);
 	}
 }
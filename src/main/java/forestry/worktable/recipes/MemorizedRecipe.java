@@ -30,6 +30,7 @@ import forestry.api.core.INbtReadable;
 import forestry.api.core.INbtWritable;
 import forestry.core.network.IStreamable;
 import forestry.core.network.PacketBufferForestry;
+import forestry.core.recipes.RecipeUtil;
 import forestry.core.utils.InventoryUtil;
 import forestry.core.utils.NBTUtilForestry;
 import forestry.worktable.inventory.InventoryCraftingForestry;
@@ -40,6 +41,10 @@ public final class MemorizedRecipe implements INbtWritable, INbtReadable, IStrea
 	private int selectedRecipe;
 	private long lastUsed;
 	private boolean locked;
+	/**
+	 * True once the recipes were looked up again because none of the stored ones exists anymore.
+	 */
+	private boolean revalidated;
 
 	public MemorizedRecipe(PacketBufferForestry data) throws IOException {
 		readData(data);
@@ -99,6 +104,12 @@ public final class MemorizedRecipe implements INbtWritable, INbtReadable, IStrea
 	}
 
 	public ItemStack getCraftingResult(InventoryCrafting inventoryCrafting, World world) {
+		if (recipes.isEmpty() && !revalidated) {
+			// the stored recipes were removed or renamed since this recipe was memorized
+			recipes = new ArrayList<>(RecipeUtil.findMatchingRecipes(craftMatrix, world));
+			selectedRecipe = 0;
+			revalidated = true;
+		}
 		IRecipe selectedRecipe = getSelectedRecipe();
 		if (selectedRecipe != null && selectedRecipe.matches(inventoryCrafting, world)) {
 			ItemStack recipeOutput = selectedRecipe.getCraftingResult(inventoryCrafting);